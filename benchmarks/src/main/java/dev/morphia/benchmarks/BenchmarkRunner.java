@@ -0,0 +1,44 @@
+package dev.morphia.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Runs the benchmarks accepting the usual JMH command line options.  Unless another format is asked for, the results are written as
+ * JSON to {@value #RESULTS} so runs against different commits can be compared.
+ */
+public final class BenchmarkRunner {
+    static final String RESULTS = "jmh-result.json";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args the JMH command line options
+     * @throws IOException                if the help text can't be written
+     * @throws CommandLineOptionException if the options can't be parsed
+     * @throws RunnerException            if a benchmark fails
+     */
+    public static void main(String[] args) throws IOException, CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+            if (!commandLine.getResult().hasValue()) {
+                options.result(RESULTS);
+            }
+        }
+        new Runner(options.build()).run();
+    }
+}
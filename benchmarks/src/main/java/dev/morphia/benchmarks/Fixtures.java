@@ -0,0 +1,44 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.model.Audited;
+import dev.morphia.benchmarks.model.Drawing;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.benchmarks.model.Linked;
+import dev.morphia.benchmarks.model.Nested;
+
+/**
+ * Builds the datastores and entities shared by the benchmarks.  Nothing here talks to a server: the client is only needed to create a
+ * datastore.
+ */
+final class Fixtures {
+    static final String DATABASE = "benchmarks";
+
+    private Fixtures() {
+    }
+
+    static Datastore datastore(MongoClient client) {
+        Datastore datastore = Morphia.createDatastore(client, DATABASE);
+        datastore.getMapper().mapPackageFromClass(Flat.class);
+        return datastore;
+    }
+
+    static Object entity(String shape, int seed) {
+        switch (shape) {
+            case "flat":
+                return new Flat(seed);
+            case "nested":
+                return new Nested(seed);
+            case "polymorphic":
+                return new Drawing(seed);
+            case "references":
+                return new Linked(seed);
+            case "lifecycle":
+                return new Audited(seed);
+            default:
+                throw new IllegalArgumentException("Unknown entity shape: " + shape);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Morphia;
+import dev.morphia.benchmarks.model.Audited;
+import dev.morphia.benchmarks.model.Drawing;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.benchmarks.model.Linked;
+import dev.morphia.benchmarks.model.Nested;
+import dev.morphia.mapping.Mapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup cost of mapping entities with a fresh mapper each time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private MongoClient client;
+
+    @Setup
+    public void setup() {
+        client = MongoClients.create();
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Mapper map() {
+        Mapper mapper = Morphia.createDatastore(client, Fixtures.DATABASE).getMapper();
+        mapper.map(Flat.class, Nested.class, Drawing.class, Linked.class, Audited.class);
+        return mapper;
+    }
+
+    @Benchmark
+    public Mapper mapPackage() {
+        Mapper mapper = Morphia.createDatastore(client, Fixtures.DATABASE).getMapper();
+        mapper.mapPackageFromClass(Flat.class);
+        return mapper;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.benchmarks.model.Flat;
+import dev.morphia.benchmarks.model.Nested;
+import dev.morphia.query.UpdateBase;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocumentWrapper;
+import org.bson.Document;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.query.experimental.filters.Filters.and;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.in;
+import static dev.morphia.query.experimental.filters.Filters.lte;
+import static dev.morphia.query.experimental.filters.Filters.or;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static dev.morphia.query.experimental.updates.UpdateOperators.push;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+
+/**
+ * Measures building the documents sent for queries and writing the updates sent, including resolving and validating field paths
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final List<String> CITIES = List.of("Springfield", "Shelbyville", "Capital City");
+
+    private MongoClient client;
+    private Datastore datastore;
+    private ObjectId id;
+    private Flat entity;
+
+    @Setup
+    public void setup() {
+        client = MongoClients.create();
+        datastore = Fixtures.datastore(client);
+        entity = new Flat(1);
+        id = entity.id;
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public Document simpleQuery() {
+        return datastore.find(Flat.class)
+                        .filter(eq("name", "flat 1"), gt("count", 10))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public Document nestedPathQuery() {
+        return datastore.find(Nested.class)
+                        .filter(eq("home.location.latitude", 1.0), in("previous.city", CITIES))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public Document logicalQuery() {
+        return datastore.find(Flat.class)
+                        .filter(or(eq("active", true),
+                            and(gt("count", 5), lte("ratio", 0.5))),
+                            in("tags", List.of("alpha", "delta")))
+                        .toDocument();
+    }
+
+    @Benchmark
+    public int fieldUpdate() {
+        return write(datastore.find(Flat.class)
+                              .filter(eq("_id", id))
+                              .update(set("name", "renamed"), inc("count"), push("tags", "delta")));
+    }
+
+    @Benchmark
+    public int entityUpdate() {
+        return write(datastore.find(Flat.class)
+                              .filter(eq("_id", id))
+                              .update(set(entity)));
+    }
+
+    /**
+     * Writes an update the way the driver does when sending it:  straight from the wrapper's encoder to the output buffer
+     */
+    @SuppressWarnings("unchecked")
+    private int write(UpdateBase<?> update) {
+        BsonDocumentWrapper<Object> wrapper = (BsonDocumentWrapper<Object>) update.toBson()
+                                                                                  .toBsonDocument(Document.class,
+                                                                                      datastore.getMapper().getCodecRegistry());
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        wrapper.getEncoder().encode(new BsonBinaryWriter(buffer), wrapper.getWrappedDocument(), ENCODER_CONTEXT);
+        return buffer.getPosition();
+    }
+}
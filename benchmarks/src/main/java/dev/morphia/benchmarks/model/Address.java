@@ -0,0 +1,26 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Embedded;
+
+import java.util.List;
+
+/**
+ * An embedded type which itself embeds other types
+ */
+@Embedded
+public class Address {
+    public String street;
+    public String city;
+    public Location location;
+    public List<Location> landmarks;
+
+    public Address() {
+    }
+
+    public Address(int seed) {
+        street = seed + " Main Street";
+        city = "Springfield";
+        location = new Location(seed, -seed);
+        landmarks = List.of(new Location(seed + 1, seed - 1), new Location(seed + 2, seed - 2));
+    }
+}
@@ -0,0 +1,43 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+
+/**
+ * An entity with lifecycle methods
+ */
+@Entity("audited")
+public class Audited {
+    @Id
+    public ObjectId id;
+    public String name;
+    public int revision;
+    public LocalDateTime modified;
+    @Transient
+    public boolean loaded;
+
+    public Audited() {
+    }
+
+    public Audited(int seed) {
+        id = new ObjectId();
+        name = "audited " + seed;
+        modified = LocalDateTime.of(2020, 1, 1, 12, 0);
+    }
+
+    @PrePersist
+    void prePersist() {
+        revision++;
+    }
+
+    @PostLoad
+    void postLoad() {
+        loaded = true;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * A shape
+ */
+@Embedded
+public class Circle extends Shape {
+    public double radius;
+
+    public Circle() {
+    }
+
+    public Circle(String color, double radius) {
+        this.color = color;
+        this.radius = radius;
+    }
+}
@@ -0,0 +1,31 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An entity holding a list of polymorphic values
+ */
+@Entity("drawings")
+public class Drawing {
+    @Id
+    public ObjectId id;
+    public Shape background;
+    public List<Shape> shapes;
+
+    public Drawing() {
+    }
+
+    public Drawing(int seed) {
+        id = new ObjectId();
+        background = new Square("white", seed);
+        shapes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            shapes.add(i % 2 == 0 ? new Circle("red", seed + i) : new Square("blue", seed + i));
+        }
+    }
+}
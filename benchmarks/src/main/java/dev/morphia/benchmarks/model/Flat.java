@@ -0,0 +1,41 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An entity made up only of simple values
+ */
+@Entity("flat")
+public class Flat {
+    @Id
+    public ObjectId id;
+    public String name;
+    public int count;
+    public long total;
+    public double ratio;
+    public boolean active;
+    public LocalDateTime created;
+    public List<String> tags;
+    public Map<String, Integer> scores;
+
+    public Flat() {
+    }
+
+    public Flat(int seed) {
+        id = new ObjectId();
+        name = "flat " + seed;
+        count = seed;
+        total = seed * 1000L;
+        ratio = seed / 7.0;
+        active = seed % 2 == 0;
+        created = LocalDateTime.of(2020, 1, 1, 12, 0).plusDays(seed);
+        tags = List.of("alpha", "beta", "gamma");
+        scores = Map.of("reads", seed, "writes", seed * 2);
+    }
+}
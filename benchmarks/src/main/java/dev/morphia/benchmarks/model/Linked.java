@@ -0,0 +1,30 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+
+/**
+ * An entity referencing others.  The references are never followed so no server is needed to decode it.
+ */
+@Entity("linked")
+public class Linked {
+    @Id
+    public ObjectId id;
+    public String name;
+    public MorphiaReference<Flat> primary;
+    public MorphiaReference<List<Flat>> others;
+
+    public Linked() {
+    }
+
+    public Linked(int seed) {
+        id = new ObjectId();
+        name = "linked " + seed;
+        primary = MorphiaReference.wrap(new Flat(seed));
+        others = MorphiaReference.wrap(List.of(new Flat(seed + 1), new Flat(seed + 2), new Flat(seed + 3)));
+    }
+}
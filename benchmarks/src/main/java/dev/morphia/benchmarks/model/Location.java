@@ -0,0 +1,20 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * The innermost embedded type
+ */
+@Embedded
+public class Location {
+    public double latitude;
+    public double longitude;
+
+    public Location() {
+    }
+
+    public Location(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
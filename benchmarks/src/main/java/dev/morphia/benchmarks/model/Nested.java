@@ -0,0 +1,29 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import org.bson.types.ObjectId;
+
+import java.util.List;
+
+/**
+ * An entity with several levels of embedded types
+ */
+@Entity("nested")
+public class Nested {
+    @Id
+    public ObjectId id;
+    public String name;
+    public Address home;
+    public List<Address> previous;
+
+    public Nested() {
+    }
+
+    public Nested(int seed) {
+        id = new ObjectId();
+        name = "nested " + seed;
+        home = new Address(seed);
+        previous = List.of(new Address(seed + 1), new Address(seed + 2), new Address(seed + 3));
+    }
+}
@@ -0,0 +1,11 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * The root of a polymorphic hierarchy stored with a discriminator
+ */
+@Embedded
+public abstract class Shape {
+    public String color;
+}
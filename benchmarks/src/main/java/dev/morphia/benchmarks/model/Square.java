@@ -0,0 +1,19 @@
+package dev.morphia.benchmarks.model;
+
+import dev.morphia.annotations.Embedded;
+
+/**
+ * A shape
+ */
+@Embedded
+public class Square extends Shape {
+    public double side;
+
+    public Square() {
+    }
+
+    public Square(String color, double side) {
+        this.color = color;
+        this.side = side;
+    }
+}
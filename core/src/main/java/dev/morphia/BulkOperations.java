@@ -0,0 +1,435 @@
+package dev.morphia;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import dev.morphia.BulkResult.OperationResult;
+import dev.morphia.BulkResult.OperationType;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.ChangeTracker;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.Query;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.ValidationException;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects inserts, saves, updates and deletes, possibly against several collections, and sends them to the server as bulk writes.
+ * The operations are grouped by collection with one {@code bulkWrite} per group.  The driver splits each group into as many
+ * messages as the server's batch count and message size limits require.
+ * <p>
+ * Ordered operations are grouped into runs of consecutive operations against the same collection so that they are applied in the
+ * order they were added.  Nothing after the first failure is executed.  Unordered operations are grouped by collection regardless of
+ * order and every one of them is attempted.
+ * <p>
+ * Filters and updates are mapped when the operation is added.  Entities are encoded when the operations are executed.
+ *
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class BulkOperations {
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Creates an empty set of operations
+     *
+     * @param datastore the datastore to write through
+     * @morphia.internal
+     */
+    public BulkOperations(Datastore datastore) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+    }
+
+    /**
+     * Deletes an entity by its id
+     *
+     * @param entity the entity to delete
+     * @return this
+     */
+    public BulkOperations delete(Object entity) {
+        if (entity instanceof Class<?>) {
+            throw new MappingException("Did you mean to delete all documents? -- ds.find(???.class).delete()");
+        }
+        Document filter = new Document("_id", mapper.getId(entity));
+        return add(new Operation(OperationType.DELETE, entity, collection(entity), new DeleteOneModel<>(filter)).invalidates(filter));
+    }
+
+    /**
+     * Deletes the first document matching a query
+     *
+     * @param query the query
+     * @param <T>   the query type
+     * @return this
+     */
+    public <T> BulkOperations delete(Query<T> query) {
+        return delete(query, new DeleteOptions());
+    }
+
+    /**
+     * Deletes the documents matching a query.  The session and write concern of the options are ignored in favor of those given when
+     * executing.
+     *
+     * @param query   the query
+     * @param options the options to apply.  {@link DeleteOptions#multi(boolean)} deletes every match.
+     * @param <T>     the query type
+     * @return this
+     */
+    public <T> BulkOperations delete(Query<T> query, DeleteOptions options) {
+        Document filter = query.toDocument();
+        return add(new Operation(OperationType.DELETE, null, query.getCollection(),
+            options.isMulti() ? new DeleteManyModel<>(filter, options) : new DeleteOneModel<>(filter, options)).invalidates(filter));
+    }
+
+    /**
+     * Executes the operations in order
+     *
+     * @return the results
+     */
+    public BulkResult execute() {
+        return execute(new BulkOptions());
+    }
+
+    /**
+     * Executes the operations.  Write errors reported by the server are recorded against the operations which caused them rather than
+     * thrown.
+     *
+     * @param options the options to apply
+     * @return the results
+     */
+    public BulkResult execute(BulkOptions options) {
+        List<OperationResult> results = new ArrayList<>();
+        for (Operation operation : operations) {
+            operation.result = new OperationResult(results.size(), operation.type, operation.entity,
+                operation.collection.getNamespace().getCollectionName());
+            results.add(operation.result);
+        }
+
+        ClientSession session = datastore.findSession(options);
+        List<BulkWriteResult> written = new ArrayList<>();
+        try {
+            for (List<Operation> group : group(options.isOrdered())) {
+                if (!write(group, options, session, written) && options.isOrdered()) {
+                    break;
+                }
+            }
+        } finally {
+            for (Operation operation : operations) {
+                if (operation.onFailure != null && !operation.result.isSuccessful()) {
+                    operation.onFailure.run();
+                }
+                if (operation.invalidates != null && operation.result.isExecuted()) {
+                    String collection = operation.collection.getNamespace().getCollectionName();
+                    IdentityMap.invalidate(datastore, collection, operation.invalidates);
+                    mapper.invalidate(collection, operation.invalidates);
+                }
+            }
+        }
+
+        int inserted = 0;
+        int matched = 0;
+        int modified = 0;
+        int deleted = 0;
+        for (BulkWriteResult result : written) {
+            inserted += result.getInsertedCount();
+            matched += result.getMatchedCount();
+            modified += result.getModifiedCount();
+            deleted += result.getDeletedCount();
+        }
+        return new BulkResult(results, inserted, matched, modified, deleted);
+    }
+
+    /**
+     * Inserts an entity
+     *
+     * @param entity the entity to insert
+     * @return this
+     */
+    public BulkOperations insert(Object entity) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        FieldModel versionField = mapper.getEntityModel(entity.getClass()).getVersionField();
+        if (versionField != null) {
+            Object value = versionField.getValue(entity);
+            if (value != null && !value.equals(0)) {
+                throw new ValidationException(Sofia.versionManuallySet());
+            }
+            versionField.setValue(entity, 1L);
+        }
+        return add(new Operation(OperationType.INSERT, entity, collection(entity), new InsertOneModel<>(entity)));
+    }
+
+    /**
+     * Saves an entity.  Entities without an id are inserted and the others replace, or upsert, the document with their id.
+     * <p>
+     * Versioned entities are only written if the stored version still matches theirs.  The replacement filters on the id and the old
+     * version and {@link OperationResult#isConflict()} reports those which matched nothing, as does a new versioned entity whose id
+     * is already taken.  A document deleted since the entity was loaded is therefore a conflict too.  The version is only incremented
+     * on the entities which were written.
+     * <p>
+     * The server only reports how many documents a whole batch matched so each versioned replacement is sent on its own and is a
+     * conflict unless it matched exactly one document.
+     *
+     * @param entity the entity to save
+     * @return this
+     */
+    public BulkOperations save(Object entity) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        EntityModel model = mapper.getEntityModel(entity.getClass());
+        MongoCollection collection = collection(entity);
+        FieldModel versionField = model.getVersionField();
+        Object id = model.getIdField().getValue(entity);
+        Operation operation;
+        if (versionField != null) {
+            Long oldVersion = (Long) versionField.getValue(entity);
+            long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+            if (newVersion == 1) {
+                operation = new Operation(OperationType.INSERT, entity, collection, new InsertOneModel<>(entity));
+                operation.presetId = id != null;
+            } else {
+                Document filter = new Document("_id", id).append(versionField.getMappedName(), oldVersion);
+                operation = new Operation(OperationType.REPLACE, entity, collection, new ReplaceOneModel<>(filter, entity))
+                                .invalidates(new Document("_id", id));
+                operation.checked = true;
+            }
+            operation.versioned = true;
+            operation.beforeWrite = () -> versionField.setValue(entity, newVersion);
+            operation.onFailure = () -> versionField.setValue(entity, oldVersion);
+        } else if (id == null) {
+            return add(new Operation(OperationType.INSERT, entity, collection, new InsertOneModel<>(entity)));
+        } else {
+            Document filter = new Document("_id", id);
+            operation = new Operation(OperationType.REPLACE, entity, collection,
+                new ReplaceOneModel<>(filter, entity, new ReplaceOptions().upsert(true))).invalidates(filter);
+        }
+        ChangeTracker tracker = mapper.getChangeTracker();
+        if (tracker != null && tracker.getState(entity) != null) {
+            operation.onSuccess = () -> tracker.track(entity, currentState(entity));
+        }
+        return add(operation);
+    }
+
+    /**
+     * @return the number of operations added
+     */
+    public int size() {
+        return operations.size();
+    }
+
+    /**
+     * Updates the first document matching a query
+     *
+     * @param query   the query
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @param <T>     the query type
+     * @return this
+     */
+    public <T> BulkOperations update(Query<T> query, UpdateOperator first, UpdateOperator... updates) {
+        return update(query, new UpdateOptions(), first, updates);
+    }
+
+    /**
+     * Updates the documents matching a query.  The session and write concern of the options are ignored in favor of those given when
+     * executing.
+     *
+     * @param query   the query
+     * @param options the options to apply.  {@link UpdateOptions#multi(boolean)} updates every match.
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @param <T>     the query type
+     * @return this
+     */
+    public <T> BulkOperations update(Query<T> query, UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        Bson update = query.update(first, updates).toBson();
+        Document filter = query.toDocument();
+        return add(new Operation(OperationType.UPDATE, null, query.getCollection(),
+            options.isMulti() ? new UpdateManyModel<>(filter, update, options) : new UpdateOneModel<>(filter, update, options))
+                       .invalidates(filter));
+    }
+
+    private BulkOperations add(Operation operation) {
+        operations.add(operation);
+        return this;
+    }
+
+    private MongoCollection collection(Object entity) {
+        return mapper.getCollection(entity.getClass());
+    }
+
+    private BsonDocument currentState(Object entity) {
+        BsonDocument state = new BsonDocument();
+        Codec<Object> codec = (Codec<Object>) mapper.getCodecRegistry().get(entity.getClass());
+        codec.encode(new BsonDocumentWriter(state), entity, EncoderContext.builder().build());
+        return state;
+    }
+
+    private List<List<Operation>> group(boolean ordered) {
+        List<List<Operation>> groups = new ArrayList<>();
+        Map<MongoNamespace, List<Operation>> byCollection = new LinkedHashMap<>();
+        Operation last = null;
+        for (Operation operation : operations) {
+            MongoNamespace namespace = operation.collection.getNamespace();
+            if (operation.checked) {
+                groups.add(new ArrayList<>(List.of(operation)));
+            } else if (ordered) {
+                if (last == null || last.checked || !namespace.equals(last.collection.getNamespace())) {
+                    groups.add(new ArrayList<>());
+                }
+                groups.get(groups.size() - 1).add(operation);
+            } else {
+                byCollection.computeIfAbsent(namespace, n -> {
+                    List<Operation> group = new ArrayList<>();
+                    groups.add(group);
+                    return group;
+                }).add(operation);
+            }
+            last = operation;
+        }
+        return groups;
+    }
+
+    /**
+     * A duplicate key on the id of a new versioned entity means another writer stored that id first.  Other unique indexes are just
+     * errors.  The index is taken from the key pattern of the error when the server reports one.  Otherwise only an entity whose id was
+     * set before the insert can collide on it.
+     */
+    private static boolean isIdConflict(Operation operation, BulkWriteError error) {
+        if (!operation.versioned || ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+            return false;
+        }
+        BsonDocument keyPattern = error.getDetails().getDocument("keyPattern", null);
+        return keyPattern != null ? keyPattern.keySet().equals(Set.of("_id")) : operation.presetId;
+    }
+
+    /**
+     * Writes a group of operations against one collection and records their outcomes
+     *
+     * @return true if all of them succeeded
+     */
+    private boolean write(List<Operation> group, BulkOptions options, ClientSession session, List<BulkWriteResult> written) {
+        List<WriteModel> models = new ArrayList<>();
+        for (Operation operation : group) {
+            if (operation.beforeWrite != null) {
+                operation.beforeWrite.run();
+            }
+            models.add(operation.model);
+        }
+
+        BulkWriteResult result;
+        Map<Integer, BulkWriteError> errors = Map.of();
+        MongoCollection collection = options.prepare(group.get(0).collection);
+        try {
+            result = session == null
+                     ? collection.bulkWrite(models, options.getOptions())
+                     : collection.bulkWrite(session, models, options.getOptions());
+        } catch (MongoBulkWriteException e) {
+            if (e.getWriteConcernError() != null) {
+                throw e;
+            }
+            result = e.getWriteResult();
+            errors = new HashMap<>();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                errors.put(error.getIndex(), error);
+            }
+        }
+
+        Map<Integer, BsonValue> upserts = new HashMap<>();
+        if (result.wasAcknowledged()) {
+            written.add(result);
+            for (BulkWriteUpsert upsert : result.getUpserts()) {
+                upserts.put(upsert.getIndex(), upsert.getId());
+            }
+        }
+
+        boolean failed = false;
+        for (int i = 0; i < group.size() && !(failed && options.isOrdered()); i++) {
+            Operation operation = group.get(i);
+            BulkWriteError error = errors.get(i);
+            boolean conflict = error == null
+                               ? operation.checked && result.wasAcknowledged() && result.getMatchedCount() != 1
+                               : isIdConflict(operation, error);
+            operation.result.executed(upserts.get(i), error, conflict);
+            if (error == null && !conflict) {
+                if (operation.onSuccess != null) {
+                    operation.onSuccess.run();
+                }
+            } else {
+                failed = true;
+            }
+        }
+        return !failed;
+    }
+
+    private static final class Operation {
+        private final OperationType type;
+        private final Object entity;
+        private final MongoCollection collection;
+        private final WriteModel model;
+        private boolean versioned;
+        /**
+         * Whether this is a versioned replacement, which is sent on its own so that its match count tells whether it conflicted
+         */
+        private boolean checked;
+        /**
+         * Whether this inserts a new versioned entity whose id was already set, so that a duplicate id is a conflict
+         */
+        private boolean presetId;
+        private Runnable beforeWrite;
+        private Runnable onSuccess;
+        private Runnable onFailure;
+        private Document invalidates;
+        private OperationResult result;
+
+        private Operation(OperationType type, Object entity, MongoCollection collection, WriteModel model) {
+            this.type = type;
+            this.entity = entity;
+            this.collection = collection;
+            this.model = model;
+        }
+
+        /**
+         * Records the documents the operation may change so that cached copies of them can be dropped once it has run
+         */
+        private Operation invalidates(Document filter) {
+            invalidates = filter;
+            return this;
+        }
+    }
+}
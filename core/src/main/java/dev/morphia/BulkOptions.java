@@ -0,0 +1,96 @@
+package dev.morphia;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.model.BulkWriteOptions;
+import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.internal.WriteConfigurable;
+
+/**
+ * Options related to executing {@link BulkOperations}.  The setter methods return {@code this} so that a chaining style can be used.
+ *
+ * @since 2.2
+ */
+public class BulkOptions implements SessionConfigurable<BulkOptions>, WriteConfigurable<BulkOptions> {
+    private final BulkWriteOptions options = new BulkWriteOptions();
+    private WriteConcern writeConcern;
+    private ClientSession clientSession;
+
+    /**
+     * Sets whether to bypass document validation.
+     *
+     * @param bypassDocumentValidation whether to bypass document validation, or null if unspecified
+     * @return this
+     * @mongodb.server.release 3.2
+     */
+    public BulkOptions bypassDocumentValidation(Boolean bypassDocumentValidation) {
+        options.bypassDocumentValidation(bypassDocumentValidation);
+        return this;
+    }
+
+    @Override
+    public BulkOptions clientSession(ClientSession clientSession) {
+        this.clientSession = clientSession;
+        return this;
+    }
+
+    @Override
+    public ClientSession clientSession() {
+        return clientSession;
+    }
+
+    /**
+     * Gets whether to bypass document validation, or null if unspecified.  The default is null.
+     *
+     * @return whether to bypass document validation, or null if unspecified.
+     * @mongodb.server.release 3.2
+     */
+    public Boolean getBypassDocumentValidation() {
+        return options.getBypassDocumentValidation();
+    }
+
+    /**
+     * @return the driver version of this instance
+     */
+    public BulkWriteOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Gets whether the operations are executed in the order they were added, stopping at the first failure.  The default is true.
+     *
+     * @return true if the operations are executed in order
+     */
+    public boolean isOrdered() {
+        return options.isOrdered();
+    }
+
+    /**
+     * Sets whether the operations are executed in the order they were added.  Ordered operations stop at the first failure.  Unordered
+     * operations are all attempted and may be applied by the server in any order.
+     *
+     * @param ordered true if the operations should be executed in order
+     * @return this
+     */
+    public BulkOptions ordered(boolean ordered) {
+        options.ordered(ordered);
+        return this;
+    }
+
+    /**
+     * Sets the write concern to use.  By default each collection uses the write concern mapped for its entities.
+     *
+     * @param writeConcern the write concern
+     * @return this
+     */
+    @Override
+    public BulkOptions writeConcern(WriteConcern writeConcern) {
+        this.writeConcern = writeConcern;
+        return this;
+    }
+
+    @Override
+    public WriteConcern writeConcern() {
+        return writeConcern;
+    }
+}
@@ -0,0 +1,216 @@
+package dev.morphia;
+
+import com.mongodb.WriteError;
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The results of executing {@link BulkOperations}.  Along with the totals reported by the server, there is one
+ * {@link OperationResult} per operation in the order the operations were added.
+ *
+ * @since 2.2
+ */
+public class BulkResult {
+    private final List<OperationResult> results;
+    private final int insertedCount;
+    private final int matchedCount;
+    private final int modifiedCount;
+    private final int deletedCount;
+
+    BulkResult(List<OperationResult> results, int insertedCount, int matchedCount, int modifiedCount, int deletedCount) {
+        this.results = Collections.unmodifiableList(results);
+        this.insertedCount = insertedCount;
+        this.matchedCount = matchedCount;
+        this.modifiedCount = modifiedCount;
+        this.deletedCount = deletedCount;
+    }
+
+    /**
+     * @return the versioned entities which were not written because their version no longer matched the stored one
+     */
+    public List<Object> getConflicts() {
+        List<Object> conflicts = new ArrayList<>();
+        for (OperationResult result : results) {
+            if (result.isConflict()) {
+                conflicts.add(result.getEntity());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * @return the number of documents deleted
+     */
+    public int getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * @return the results of the operations which failed or were not executed because an earlier ordered operation failed
+     */
+    public List<OperationResult> getFailures() {
+        List<OperationResult> failures = new ArrayList<>();
+        for (OperationResult result : results) {
+            if (!result.isSuccessful()) {
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * @return the number of documents inserted, not including upserts
+     */
+    public int getInsertedCount() {
+        return insertedCount;
+    }
+
+    /**
+     * @return the number of documents matched by updates and replacements
+     */
+    public int getMatchedCount() {
+        return matchedCount;
+    }
+
+    /**
+     * @return the number of documents modified by updates and replacements
+     */
+    public int getModifiedCount() {
+        return modifiedCount;
+    }
+
+    /**
+     * @return the result of each operation in the order the operations were added
+     */
+    public List<OperationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return true if every operation succeeded
+     */
+    public boolean isSuccessful() {
+        for (OperationResult result : results) {
+            if (!result.isSuccessful()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BulkResult{inserted=%d, matched=%d, modified=%d, deleted=%d, failures=%d}",
+            insertedCount, matchedCount, modifiedCount, deletedCount, getFailures().size());
+    }
+
+    /**
+     * The kinds of bulk operations
+     */
+    public enum OperationType {
+        INSERT,
+        REPLACE,
+        UPDATE,
+        DELETE
+    }
+
+    /**
+     * The outcome of a single bulk operation
+     */
+    public static class OperationResult {
+        private final int index;
+        private final OperationType type;
+        private final Object entity;
+        private final String collection;
+        private boolean executed;
+        private boolean conflict;
+        private BsonValue upsertedId;
+        private WriteError error;
+
+        OperationResult(int index, OperationType type, Object entity, String collection) {
+            this.index = index;
+            this.type = type;
+            this.entity = entity;
+            this.collection = collection;
+        }
+
+        /**
+         * @return the name of the collection written to
+         */
+        public String getCollection() {
+            return collection;
+        }
+
+        /**
+         * @return the entity inserted, saved or deleted or null for operations defined by a query
+         */
+        public Object getEntity() {
+            return entity;
+        }
+
+        /**
+         * @return the error reported by the server or null if the operation did not fail
+         */
+        public WriteError getError() {
+            return error;
+        }
+
+        /**
+         * @return the position of the operation in the order the operations were added
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * @return the kind of operation
+         */
+        public OperationType getType() {
+            return type;
+        }
+
+        /**
+         * @return the id of the document inserted by an upsert or null if there was none
+         */
+        public BsonValue getUpsertedId() {
+            return upsertedId;
+        }
+
+        /**
+         * @return true if the operation saved a versioned entity whose version no longer matched the stored one
+         */
+        public boolean isConflict() {
+            return conflict;
+        }
+
+        /**
+         * @return true if the operation was sent to the server.  Ordered operations after a failure are not.
+         */
+        public boolean isExecuted() {
+            return executed;
+        }
+
+        /**
+         * @return true if the operation was executed without error or version conflict
+         */
+        public boolean isSuccessful() {
+            return executed && error == null && !conflict;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("OperationResult{index=%d, type=%s, collection='%s', executed=%s, conflict=%s, error=%s}",
+                index, type, collection, executed, conflict, error);
+        }
+
+        void executed(BsonValue upsertedId, WriteError error, boolean conflict) {
+            this.executed = true;
+            this.upsertedId = upsertedId;
+            this.error = error;
+            this.conflict = conflict;
+        }
+    }
+}
@@ -18,6 +18,8 @@ import dev.morphia.internal.SessionConfigurable;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
+import dev.morphia.query.Parameter;
+import dev.morphia.query.PreparedQuery;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateOperations;
@@ -55,6 +57,14 @@ public interface Datastore {
      */
     <T> Aggregation<T> aggregate(Class<T> source);
 
+    /**
+     * Starts a set of inserts, saves, updates and deletes to be sent to the server in bulk
+     *
+     * @return the new, empty set of operations
+     * @since 2.2
+     */
+    BulkOperations bulk();
+
     /**
      * Returns a new query bound to the kind (a specific {@link DBCollection})
      *
@@ -398,6 +408,20 @@ public interface Datastore {
         merge(entity, new InsertOneOptions().writeConcern(wc));
     }
 
+    /**
+     * Prepares a query as a template to run many times with different values.  Filter values given as {@link Parameter parameters} are
+     * left as placeholders while the rest of the query is encoded once.
+     *
+     * @param query the query to prepare
+     * @param <T>   the type of the entity
+     * @return the prepared query
+     * @see Parameter#param(String)
+     * @since 2.2
+     */
+    default <T> PreparedQuery<T> prepare(Query<T> query) {
+        return new PreparedQuery<>(query);
+    }
+
     /**
      * Returns a new query based on the example object
      *
@@ -20,6 +20,7 @@ import dev.morphia.annotations.Validation;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
 import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.mapping.ChangeTracker;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
@@ -33,7 +34,12 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.query.experimental.updates.UpdateOperators;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt64;
 import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +49,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static org.bson.Document.parse;
@@ -99,6 +106,11 @@ public class DatastoreImpl implements AdvancedDatastore {
         return new AggregationImpl(this, mapper.getCollection(source));
     }
 
+    @Override
+    public BulkOperations bulk() {
+        return new BulkOperations(this);
+    }
+
     @Override
     public dev.morphia.aggregation.AggregationPipeline createAggregation(Class source) {
         return new dev.morphia.aggregation.AggregationPipelineImpl(this, mapper.getCollection(source), source);
@@ -291,7 +303,21 @@ public class DatastoreImpl implements AdvancedDatastore {
         document.remove("_id");
 
         final Query<T> query = (Query<T>) find(entity.getClass()).filter(eq("_id", id));
-        if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
+        MongoCollection<T> collection = (MongoCollection<T>) mapper.getCollection(entity.getClass());
+        if (!tryVersionedUpdate(entity, collection, options, false)) {
+            BsonDocument state = trackedState(entity);
+            if (state != null) {
+                BsonDocument update = ChangeTracker.diff(state, currentState(entity), false, Set.of("_id"));
+                if (!update.isEmpty()) {
+                    if (updateOne(collection, new Document("_id", id), update, options).getMatchedCount() != 1) {
+                        throw new UpdateException("Nothing updated");
+                    }
+                    // fields the entity no longer has are still stored so they stay in the baseline
+                    mapper.getChangeTracker().track(entity, ChangeTracker.apply(state, update));
+                }
+                mapper.invalidate(collection.getNamespace().getCollectionName(), new Document("_id", id));
+                return query.first();
+            }
             UpdateResult execute = query.update(UpdateOperators.set(entity))
                                         .execute(new UpdateOptions()
                                                      .clientSession(findSession(options))
@@ -301,6 +327,7 @@ public class DatastoreImpl implements AdvancedDatastore {
             }
         }
 
+        mapper.invalidate(collection.getNamespace().getCollectionName(), new Document("_id", id));
         return query.first();
     }
 
@@ -374,8 +401,21 @@ public class DatastoreImpl implements AdvancedDatastore {
                                                 .bypassDocumentValidation(options.getBypassDocumentValidation())
                                                 .clientSession(findSession(options))
                                                 .writeConcern(options.writeConcern());
+        // consecutive versioned entities are written together but never ahead of the entities before them
+        BulkOperations versioned = bulk();
         for (T entity : list) {
-            save(entity, insertOneOptions);
+            if (getMapper().getEntityModel(entity.getClass()).getVersionField() != null) {
+                versioned.save(entity);
+            } else {
+                if (versioned.size() != 0) {
+                    saveVersioned(versioned, options);
+                    versioned = bulk();
+                }
+                save(entity, insertOneOptions);
+            }
+        }
+        if (versioned.size() != 0) {
+            saveVersioned(versioned, options);
         }
         return entities;
     }
@@ -465,6 +505,17 @@ public class DatastoreImpl implements AdvancedDatastore {
                 options.prepare(collection).insertOne(clientSession, entity, options.getOptions());
             }
         } else {
+            BsonDocument state = trackedState(entity);
+            BsonDocument current = null;
+            if (state != null) {
+                current = currentState(entity);
+                BsonDocument update = ChangeTracker.diff(state, current, true, Set.of("_id"));
+                // a document removed since it was loaded is written in full below
+                if (update.isEmpty() || updateOne(collection, new Document("_id", id), update, options).getMatchedCount() == 1) {
+                    mapper.getChangeTracker().track(entity, current);
+                    return;
+                }
+            }
             ReplaceOptions updateOptions = new ReplaceOptions()
                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
                                                .upsert(true);
@@ -477,6 +528,10 @@ public class DatastoreImpl implements AdvancedDatastore {
             } else {
                 updated.replaceOne(clientSession, new Document("_id", id), entity, updateOptions);
             }
+            if (current != null) {
+                // the replaced document is the new baseline or a later save could miss changes made relative to it
+                mapper.getChangeTracker().track(entity, current);
+            }
         }
     }
 
@@ -521,9 +576,31 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
-        if (!tryVersionedUpdate(entity, collection, options)) {
+        if (!tryVersionedUpdate(entity, collection, options, true)) {
             saveDocument(entity, collection, options);
         }
+        mapper.invalidate(collection.getNamespace().getCollectionName(), new Document("_id", mapper.getId(entity)));
+    }
+
+    /**
+     * Saves versioned entities in one unordered bulk write.  Every entity whose version still matches is saved and the others keep their
+     * old version.  A conflict, if any, is then thrown ahead of any other error.
+     */
+    private void saveVersioned(BulkOperations versioned, InsertManyOptions options) {
+        BulkResult result = versioned.execute(new BulkOptions()
+                                                  .ordered(false)
+                                                  .bypassDocumentValidation(options.getBypassDocumentValidation())
+                                                  .clientSession(findSession(options))
+                                                  .writeConcern(options.writeConcern()));
+        if (!result.isSuccessful()) {
+            List<Object> conflicts = result.getConflicts();
+            if (!conflicts.isEmpty()) {
+                Object entity = conflicts.get(0);
+                throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(),
+                    mapper.getId(entity)));
+            }
+            throw new UpdateException(result.getFailures().get(0).getError().getMessage());
+        }
     }
 
     private <T> void setInitialVersion(FieldModel versionField, T entity) {
@@ -537,7 +614,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
-    private <T> boolean tryVersionedUpdate(T entity, MongoCollection collection, InsertOneOptions options) {
+    private <T> boolean tryVersionedUpdate(T entity, MongoCollection collection, InsertOneOptions options, boolean unset) {
         final EntityModel model = mapper.getEntityModel(entity.getClass());
         if (model.getVersionField() == null) {
             return false;
@@ -564,6 +641,25 @@ public class DatastoreImpl implements AdvancedDatastore {
                 throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), idValue));
             }
         } else if (idValue != null) {
+            BsonDocument state = trackedState(entity);
+            if (state != null) {
+                BsonDocument current = currentState(entity);
+                String version = versionField.getMappedName();
+                BsonDocument update = ChangeTracker.diff(state, current, unset, Set.of("_id", version));
+                if (update.isEmpty()) {
+                    return true;
+                }
+                update.put("$inc", new BsonDocument(version, new BsonInt64(1)));
+                UpdateResult res = updateOne(collection, new Document("_id", idValue).append(version, oldVersion), update, options);
+                if (res.getModifiedCount() != 1) {
+                    throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(), idValue));
+                }
+                updateVersion(entity, versionField, newVersion);
+                BsonDocument stored = unset ? current : ChangeTracker.apply(state, update);
+                stored.put(version, new BsonInt64(newVersion));
+                mapper.getChangeTracker().track(entity, stored);
+                return true;
+            }
             final UpdateResult res = find(collection.getNamespace().getCollectionName())
                                          .filter(eq("_id", idValue),
                                              eq(versionField.getMappedName(), oldVersion))
@@ -585,4 +681,31 @@ public class DatastoreImpl implements AdvancedDatastore {
     private <T> void updateVersion(T entity, FieldModel field, Long newVersion) {
         field.setValue(entity, newVersion);
     }
+
+    private BsonDocument trackedState(Object entity) {
+        ChangeTracker tracker = mapper.getChangeTracker();
+        return tracker != null ? tracker.getState(entity) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BsonDocument currentState(Object entity) {
+        BsonDocument state = new BsonDocument();
+        Codec<Object> codec = (Codec<Object>) mapper.getCodecRegistry().get(entity.getClass());
+        codec.encode(new BsonDocumentWriter(state), entity, EncoderContext.builder().build());
+        return state;
+    }
+
+    private <T> UpdateResult updateOne(MongoCollection<T> collection, Document filter, BsonDocument update,
+                                       InsertOneOptions options) {
+        UpdateOptions updateOptions = new UpdateOptions()
+                                          .bypassDocumentValidation(options.getBypassDocumentValidation());
+        MongoCollection<T> updated = collection;
+        if (options.writeConcern() != null) {
+            updated = collection.withWriteConcern(options.writeConcern());
+        }
+        ClientSession clientSession = findSession(options);
+        return clientSession == null
+               ? updated.updateOne(filter, update, updateOptions)
+               : updated.updateOne(clientSession, filter, update, updateOptions);
+    }
 }
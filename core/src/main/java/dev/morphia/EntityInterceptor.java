@@ -12,6 +12,30 @@ import org.bson.Document;
  * Interface for intercepting @Entity lifecycle events
  */
 public interface EntityInterceptor {
+    /**
+     * Limits this interceptor to certain entity types.  Entities of other types are neither passed to this interceptor nor slowed down
+     * by it.
+     *
+     * @param type the entity type
+     * @return true if this interceptor should be called for entities of the given type
+     * @since 2.2
+     */
+    default boolean appliesTo(Class<?> type) {
+        return true;
+    }
+
+    /**
+     * Indicates whether this interceptor uses the Document passed to its methods.  Building that Document means encoding or decoding
+     * each entity twice so interceptors which only work with the entity should return false.  The document passed to such an interceptor
+     * might be null.
+     *
+     * @return true if this interceptor reads or modifies the Document form of the entity
+     * @since 2.2
+     */
+    default boolean requiresDocument() {
+        return true;
+    }
+
     /**
      * @param ent      the entity being processed
      * @param document the Document form of the entity
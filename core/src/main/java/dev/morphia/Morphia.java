@@ -4,6 +4,8 @@ import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import dev.morphia.mapping.MapperOptions;
+import dev.morphia.reactive.ReactiveDatastore;
+import dev.morphia.reactive.ReactiveDatastoreImpl;
 
 
 /**
@@ -58,4 +60,18 @@ public final class Morphia {
     public static Datastore createDatastore(MongoClient mongoClient, String dbName) {
         return createDatastore(mongoClient, dbName, MapperOptions.DEFAULT);
     }
+
+    /**
+     * Creates a ReactiveDatastore sharing the mapping of an existing Datastore.  Requires mongodb-driver-reactivestreams on the
+     * classpath.
+     *
+     * @param mongoClient the reactive client to use
+     * @param datastore   the datastore whose mapper and database to use
+     * @return a ReactiveDatastore that you can use to interact with MongoDB without blocking
+     * @since 2.2
+     */
+    public static ReactiveDatastore createReactiveDatastore(com.mongodb.reactivestreams.client.MongoClient mongoClient,
+                                                            Datastore datastore) {
+        return new ReactiveDatastoreImpl(mongoClient, datastore);
+    }
 }
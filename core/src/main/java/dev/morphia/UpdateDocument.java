@@ -1,16 +1,23 @@
 package dev.morphia;
 
-import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import org.bson.BsonDocument;
-import org.bson.Document;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonWriter;
+import org.bson.codecs.Encoder;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+
 /**
- * Document used to send update statements to the driver.
+ * Document used to send update statements to the driver.  The entity is written straight to the driver's writer when the statement is
+ * sent.
  *
  * @morphia.internal
  * @since 2.0
@@ -30,18 +37,37 @@ public class UpdateDocument implements Bson {
 
     @Override
     public <TDocument> BsonDocument toBsonDocument(Class<TDocument> tDocumentClass, CodecRegistry codecRegistry) {
-        DocumentWriter writer = new DocumentWriter();
+        return new BsonDocumentWrapper<>(entity, new Encoder<Object>() {
+            @Override
+            public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+                document(writer, () -> encodeFields(writer, encoderContext, codecRegistry));
+            }
+
+            @Override
+            public Class<Object> getEncoderClass() {
+                return Object.class;
+            }
+        });
+    }
 
-        MorphiaCodec codec = (MorphiaCodec) codecRegistry.get(entity.getClass());
-        codec.encode(writer, entity, EncoderContext.builder().build());
+    /**
+     * Writes the fields of the entity, other than its ID and version, into the document currently open on the writer
+     *
+     * @param writer         the writer
+     * @param encoderContext the context
+     * @param codecRegistry  the registry to find the entity's codec in
+     * @since 2.2
+     */
+    public void encodeFields(BsonWriter writer, EncoderContext encoderContext, CodecRegistry codecRegistry) {
+        MorphiaCodec<?> codec = (MorphiaCodec<?>) codecRegistry.get(entity.getClass());
 
-        Document document = writer.getDocument();
-        document.remove("_id");
+        Set<String> skipped = new HashSet<>();
+        skipped.add("_id");
         FieldModel versionField = codec.getEntityModel().getVersionField();
         if (versionField != null) {
-            document.remove(versionField.getMappedName());
+            skipped.add(versionField.getMappedName());
         }
-        return document.toBsonDocument(Document.class, codecRegistry);
+        codec.encodeFields(writer, entity, encoderContext, skipped);
     }
 
 }
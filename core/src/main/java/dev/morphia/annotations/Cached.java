@@ -0,0 +1,33 @@
+package dev.morphia.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Marks an entity type whose documents may be kept in the {@link dev.morphia.cache.EntityCache} configured on the mapper.  Reads of the
+ * type by id, including the resolution of references to it, are then served from the cache until the entry expires or a write
+ * invalidates it.
+ *
+ * @see dev.morphia.mapping.MapperOptions.Builder#entityCache(dev.morphia.cache.EntityCache)
+ * @since 2.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Cached {
+    /**
+     * @return how long a cached document may be used for, in {@link #unit()}s
+     */
+    long ttl() default 60;
+
+    /**
+     * @return the unit of the time to live
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,33 @@
+package dev.morphia.annotations.experimental;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type whose instances are decoded lazily.  A read keeps each document in its raw BSON form and returns an instance of a
+ * generated subclass of the type with only its id and version set.  Every other field is decoded when first needed: calling a getter
+ * or setter named for a field, e.g. {@code getName()}, {@code isActive()} or {@code setName(String)}, decodes just that field while
+ * calling any other method decodes them all.  Morphia itself decodes each field it reads, e.g. when saving the instance.
+ * <p>
+ * This suits large documents of which only a few fields are read.  Some restrictions apply:
+ * <ul>
+ *     <li>fields accessed directly, rather than through methods of the instance, are not decoded on access</li>
+ *     <li>getters and setters are expected to use only their own field</li>
+ *     <li>final methods can not be intercepted</li>
+ * </ul>
+ * Types which can not be subclassed, which have no non-private no-arg constructor, or which have {@code @PreLoad} or {@code @PostLoad}
+ * methods are decoded as usual.
+ *
+ * @morphia.experimental
+ * @since 2.2
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface LazyFields {
+}
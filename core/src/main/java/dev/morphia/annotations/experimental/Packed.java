@@ -0,0 +1,26 @@
+package dev.morphia.annotations.experimental;
+
+import dev.morphia.annotations.Handler;
+import dev.morphia.mapping.codec.PackedArrayCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores an array or list of int, long, float or double values as a single binary value, of the user defined subtype, holding the
+ * values in little endian order rather than as an array with an element per value.  This makes large numeric vectors considerably
+ * smaller and faster to read and write but their values can no longer be queried or updated individually.  Fields written as arrays,
+ * e.g. before the annotation was added, are still read.
+ *
+ * @morphia.experimental
+ * @since 2.2
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(PackedArrayCodec.class)
+public @interface Packed {
+}
@@ -0,0 +1,117 @@
+package dev.morphia.cache;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoNamespace;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps an {@link EntityCache} coherent with writes made outside this application, e.g. by its other nodes, by following the change
+ * stream of a database.  Each change drops the document it touched.  Dropping or renaming a collection drops all of its documents and
+ * any other event, or losing the change stream, clears the cache since changes may have been missed.
+ * <p>
+ * Change streams require a replica set or sharded cluster.
+ *
+ * @since 2.2
+ */
+public class CacheInvalidator implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidator.class);
+
+    private final MongoDatabase database;
+    private final EntityCache cache;
+    private volatile Thread thread;
+
+    /**
+     * Creates an invalidator.  It does nothing until started.
+     *
+     * @param database the database to follow
+     * @param cache    the cache to invalidate
+     */
+    public CacheInvalidator(MongoDatabase database, EntityCache cache) {
+        this.database = database;
+        this.cache = cache;
+    }
+
+    /**
+     * Stops following the change stream.  The background thread exits once the change stream's current wait for events ends.
+     */
+    @Override
+    public synchronized void close() {
+        thread = null;
+    }
+
+    /**
+     * Starts following the change stream on a background thread
+     *
+     * @return this
+     */
+    public synchronized CacheInvalidator start() {
+        if (thread == null) {
+            thread = new Thread(this::listen, "morphia-cache-invalidator-" + database.getName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return this;
+    }
+
+    private void apply(ChangeStreamDocument<Document> event) {
+        MongoNamespace namespace = event.getNamespace();
+        BsonDocument key = event.getDocumentKey();
+        switch (event.getOperationType()) {
+            case INSERT:
+            case UPDATE:
+            case REPLACE:
+            case DELETE:
+                cache.invalidate(namespace.getCollectionName(), CachedCollection.key(database.getCodecRegistry(), key.get("_id")));
+                break;
+            case DROP:
+            case RENAME:
+                cache.invalidate(namespace.getCollectionName());
+                break;
+            default:
+                cache.clear();
+        }
+    }
+
+    private boolean isRunning() {
+        return thread == Thread.currentThread() && !Thread.currentThread().isInterrupted();
+    }
+
+    private void listen() {
+        while (isRunning()) {
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = database.watch()
+                                                                                           .maxAwaitTime(1, TimeUnit.SECONDS)
+                                                                                           .cursor()) {
+                // the cache may hold documents changed before the stream was opened
+                cache.clear();
+                while (isRunning()) {
+                    ChangeStreamDocument<Document> event = cursor.tryNext();
+                    if (event != null) {
+                        apply(event);
+                    }
+                }
+            } catch (MongoException e) {
+                if (isRunning()) {
+                    LOG.warn("Lost the change stream of {}.  Reopening it.", database.getName(), e);
+                    pause();
+                }
+            }
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
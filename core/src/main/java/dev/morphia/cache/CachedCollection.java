@@ -0,0 +1,100 @@
+package dev.morphia.cache;
+
+import dev.morphia.internal.IdQueries;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.time.Duration;
+
+/**
+ * The {@link EntityCache} as used by one cached collection: ids are keyed by their BSON form and documents are cached with the time to
+ * live of the collection's entity type.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class CachedCollection {
+    private final EntityCache cache;
+    private final String collection;
+    private final Duration ttl;
+    private final CodecRegistry registry;
+
+    /**
+     * Creates a view of the cache
+     *
+     * @param cache      the cache
+     * @param collection the collection
+     * @param ttl        how long documents may be used for
+     * @param registry   the registry to encode ids with
+     */
+    public CachedCollection(EntityCache cache, String collection, Duration ttl, CodecRegistry registry) {
+        this.cache = cache;
+        this.collection = collection;
+        this.ttl = ttl;
+        this.registry = registry;
+    }
+
+    /**
+     * Converts an id to the form the cache is keyed by.  The server matches numbers by value regardless of their type so whole numbers
+     * are keyed as 64 bit integers, e.g., a filter on an int id finds the document stored with the equal long id.
+     *
+     * @param registry the registry to encode the id with
+     * @param id       the id
+     * @return the BSON form of the id
+     */
+    public static BsonValue key(CodecRegistry registry, Object id) {
+        return normalize(id instanceof BsonValue
+                         ? (BsonValue) id
+                         : new Document("_id", id).toBsonDocument(BsonDocument.class, registry).get("_id"));
+    }
+
+    /**
+     * @return the name of the collection
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * @param id the id of the document
+     * @return the cached document or null if there is none
+     */
+    public RawBsonDocument get(Object id) {
+        return cache.get(collection, key(registry, id));
+    }
+
+    /**
+     * Caches a document just read
+     *
+     * @param document the document
+     */
+    public void put(RawBsonDocument document) {
+        BsonValue id = document.get("_id");
+        if (id != null) {
+            cache.put(collection, key(registry, id), document, ttl);
+        }
+    }
+
+    private static BsonValue normalize(BsonValue value) {
+        Object number;
+        switch (value.getBsonType()) {
+            case INT32:
+                number = value.asInt32().getValue();
+                break;
+            case DOUBLE:
+                number = value.asDouble().getValue();
+                break;
+            case DECIMAL128:
+                number = value.asDecimal128().getValue();
+                break;
+            default:
+                return value;
+        }
+        Object normalized = IdQueries.normalize(number);
+        return normalized instanceof Long ? new BsonInt64((Long) normalized) : value;
+    }
+}
@@ -0,0 +1,56 @@
+package dev.morphia.cache;
+
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.time.Duration;
+
+/**
+ * A second level cache of documents shared by every operation of a mapper.  Documents of the entity types annotated with
+ * {@link dev.morphia.annotations.Cached} are kept in their raw BSON form so that each read decodes its own instances.  Writes made
+ * through Morphia invalidate the documents they touch.  Writes made by other applications, or other nodes of the same one, can be
+ * picked up with a {@link CacheInvalidator}.
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * @see LruEntityCache
+ * @since 2.2
+ */
+public interface EntityCache {
+    /**
+     * Drops every document
+     */
+    void clear();
+
+    /**
+     * @param collection the collection
+     * @param id         the id of the document
+     * @return the cached document or null if there is none or it has expired
+     */
+    RawBsonDocument get(String collection, BsonValue id);
+
+    /**
+     * Drops every document of a collection
+     *
+     * @param collection the collection
+     */
+    void invalidate(String collection);
+
+    /**
+     * Drops a document
+     *
+     * @param collection the collection
+     * @param id         the id of the document
+     */
+    void invalidate(String collection, BsonValue id);
+
+    /**
+     * Caches a document, replacing any other cached for its id
+     *
+     * @param collection the collection
+     * @param id         the id of the document
+     * @param document   the document
+     * @param ttl        how long the document may be used for
+     */
+    void put(String collection, BsonValue id, RawBsonDocument document, Duration ttl);
+}
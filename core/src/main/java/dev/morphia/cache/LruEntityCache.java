@@ -0,0 +1,163 @@
+package dev.morphia.cache;
+
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An in-memory {@link EntityCache} bounded by the total size of the documents it holds.  Once the bound is reached the least recently
+ * used documents are dropped to make room.
+ *
+ * @since 2.2
+ */
+public class LruEntityCache implements EntityCache {
+    private final long maxBytes;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> counts = new HashMap<>();
+    private long bytes;
+
+    /**
+     * Creates a cache
+     *
+     * @param maxBytes the most BSON, in bytes, to hold
+     */
+    public LruEntityCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("The cache size must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        counts.clear();
+        bytes = 0;
+    }
+
+    @Override
+    public synchronized RawBsonDocument get(String collection, BsonValue id) {
+        Key key = new Key(collection, id);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expires - System.nanoTime() <= 0) {
+            remove(key);
+            return null;
+        }
+        return entry.document;
+    }
+
+    /**
+     * @return the total size, in bytes, of the documents held
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized void invalidate(String collection) {
+        if (counts.containsKey(collection)) {
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> next = iterator.next();
+                if (next.getKey().collection.equals(collection)) {
+                    bytes -= next.getValue().size;
+                    iterator.remove();
+                }
+            }
+            counts.remove(collection);
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String collection, BsonValue id) {
+        remove(new Key(collection, id));
+    }
+
+    @Override
+    public synchronized void put(String collection, BsonValue id, RawBsonDocument document, Duration ttl) {
+        Key key = new Key(collection, id);
+        remove(key);
+        int size = document.getByteBuffer().remaining();
+        if (size > maxBytes || ttl.isZero() || ttl.isNegative()) {
+            return;
+        }
+        entries.put(key, new Entry(document, size, System.nanoTime() + ttl.toNanos()));
+        counts.merge(collection, 1, Integer::sum);
+        bytes += size;
+
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (bytes > maxBytes) {
+            Map.Entry<Key, Entry> next = eldest.next();
+            bytes -= next.getValue().size;
+            eldest.remove();
+            decrement(next.getKey().collection);
+        }
+    }
+
+    /**
+     * @return the number of documents held
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void decrement(String collection) {
+        counts.computeIfPresent(collection, (k, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.size;
+            decrement(key.collection);
+        }
+    }
+
+    private static final class Entry {
+        private final RawBsonDocument document;
+        private final int size;
+        private final long expires;
+
+        private Entry(RawBsonDocument document, int size, long expires) {
+            this.document = document;
+            this.size = size;
+            this.expires = expires;
+        }
+    }
+
+    private static final class Key {
+        private final String collection;
+        private final BsonValue id;
+
+        private Key(String collection, BsonValue id) {
+            this.collection = collection;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return collection.equals(key.collection) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(collection, id);
+        }
+    }
+}
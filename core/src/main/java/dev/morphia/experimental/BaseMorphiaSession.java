@@ -21,6 +21,7 @@ import org.bson.BsonTimestamp;
  */
 public abstract class BaseMorphiaSession extends DatastoreImpl implements MorphiaSession {
     private final ClientSession session;
+    private IdentityMap identityMap;
 
     BaseMorphiaSession(ClientSession session,
                        MongoClient mongoClient,
@@ -67,6 +68,14 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
         session.startTransaction(transactionOptions);
     }
 
+    @Override
+    public MorphiaSession enableIdentityMap() {
+        if (identityMap == null) {
+            identityMap = new IdentityMap(this);
+        }
+        return this;
+    }
+
     @Override
     public void commitTransaction() {
         session.commitTransaction();
@@ -75,6 +84,10 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
     @Override
     public void abortTransaction() {
         session.abortTransaction();
+        if (identityMap != null) {
+            // entities written in the transaction no longer match what is stored
+            identityMap.clear();
+        }
     }
 
     @Override
@@ -143,6 +156,14 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
         session.close();
     }
 
+    /**
+     * @return the identity map of this session or null if it isn't enabled
+     * @since 2.2
+     */
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
     /**
      * @return the session
      */
@@ -0,0 +1,225 @@
+package dev.morphia.experimental;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.internal.IdQueries;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.query.internal.ListCursor;
+import org.bson.Document;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The first level cache of a {@link MorphiaSession}.  Entities read in the session are tracked by collection and id so that each
+ * document is represented by a single instance for the life of the session and reads by id of tracked entities are served without a
+ * round trip to the server.
+ *
+ * @morphia.internal
+ * @morphia.experimental
+ * @since 2.2
+ */
+public class IdentityMap {
+    private static final ThreadLocal<Datastore> DECODING = new ThreadLocal<>();
+
+    private final Datastore session;
+    private final Mapper mapper;
+    private final Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an identity map
+     *
+     * @param session the session the map belongs to
+     */
+    public IdentityMap(Datastore session) {
+        this.session = session;
+        mapper = session.getMapper();
+    }
+
+    /**
+     * @return the session whose query is decoding entities on this thread or null if there is none.  References decoded along the way
+     * resolve through that session.
+     */
+    public static Datastore decodingSession() {
+        return DECODING.get();
+    }
+
+    /**
+     * Drops what a write may have changed from the identity map of the datastore, if it is a session with one.  A write to a single
+     * document by id drops only that document.  Any other write drops the whole collection since the documents it touched aren't known.
+     *
+     * @param datastore  the datastore written through
+     * @param collection the collection written to
+     * @param query      the query selecting the documents written
+     */
+    public static void invalidate(Datastore datastore, String collection, Document query) {
+        IdentityMap identities = of(datastore);
+        if (identities != null) {
+            Object id = IdQueries.idOf(query);
+            Map<Object, Object> tracked = identities.entities.get(collection);
+            if (id == null) {
+                identities.evict(collection);
+            } else if (tracked != null) {
+                tracked.remove(id);
+            }
+        }
+    }
+
+    /**
+     * @param datastore the datastore
+     * @return the identity map of the datastore or null if it isn't a session or the session has no identity map
+     */
+    public static IdentityMap of(Datastore datastore) {
+        return datastore instanceof BaseMorphiaSession ? ((BaseMorphiaSession) datastore).getIdentityMap() : null;
+    }
+
+    /**
+     * Drops every tracked entity
+     */
+    public void clear() {
+        entities.clear();
+    }
+
+    /**
+     * Drops every tracked entity of a collection
+     *
+     * @param collection the collection
+     */
+    public void evict(String collection) {
+        entities.remove(collection);
+    }
+
+    /**
+     * @param collection the collection
+     * @param id         the id of the entity
+     * @param <T>        the entity type
+     * @return the tracked entity or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String collection, Object id) {
+        Map<Object, Object> tracked = entities.get(collection);
+        return tracked != null && id != null ? (T) tracked.get(id) : null;
+    }
+
+    /**
+     * Serves a query from the map if it matches a single tracked entity by id
+     *
+     * @param collection the collection queried
+     * @param type       the type queried
+     * @param query      the query document
+     * @param <T>        the entity type
+     * @return a cursor over the tracked entity or null if the query needs to go to the server
+     */
+    public <T> MongoCursor<T> lookup(String collection, Class<T> type, Document query) {
+        Object id = type != null ? IdQueries.idOf(query) : null;
+        if (id == null) {
+            return null;
+        }
+        Object cached = get(collection, id);
+        return type.isInstance(cached) ? new ListCursor<>(List.of(type.cast(cached))) : null;
+    }
+
+    /**
+     * Tracks an entity written in the session, replacing any other instance tracked for its id
+     *
+     * @param collection the collection
+     * @param entity     the entity
+     */
+    public void put(String collection, Object entity) {
+        Object id = mapper.getId(entity);
+        if (id != null) {
+            entities.computeIfAbsent(collection, k -> new ConcurrentHashMap<>()).put(id, entity);
+        }
+    }
+
+    /**
+     * Opens a cursor whose results are tracked.  An entity already tracked for a document is returned in place of the one just read so
+     * that unsaved changes to it are not lost.
+     *
+     * @param collection the collection queried
+     * @param open       opens the cursor
+     * @param <T>        the entity type
+     * @return the tracking cursor
+     */
+    public <T> MongoCursor<T> track(String collection, Supplier<MongoCursor<T>> open) {
+        return new TrackingCursor<>(collection, decode(open));
+    }
+
+    /**
+     * @param collection the collection
+     * @param entity     the entity
+     * @return true if the entity is the instance tracked for its id
+     */
+    public boolean tracks(String collection, Object entity) {
+        return get(collection, mapper.getId(entity)) == entity;
+    }
+
+    private <V> V decode(Supplier<V> operation) {
+        Datastore previous = DECODING.get();
+        DECODING.set(session);
+        try {
+            return operation.get();
+        } finally {
+            if (previous == null) {
+                DECODING.remove();
+            } else {
+                DECODING.set(previous);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T merge(String collection, T entity) {
+        Object id = mapper.getId(entity);
+        if (id == null) {
+            return entity;
+        }
+        Object existing = entities.computeIfAbsent(collection, k -> new ConcurrentHashMap<>()).putIfAbsent(id, entity);
+        return existing != null && entity.getClass().isInstance(existing) ? (T) existing : entity;
+    }
+
+    private class TrackingCursor<T> implements MongoCursor<T> {
+        private final String collection;
+        private final MongoCursor<T> cursor;
+
+        TrackingCursor(String collection, MongoCursor<T> cursor) {
+            this.collection = collection;
+            this.cursor = cursor;
+        }
+
+        @Override
+        public void close() {
+            cursor.close();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return decode(cursor::hasNext);
+        }
+
+        @Override
+        public T next() {
+            return merge(collection, decode(cursor::next));
+        }
+
+        @Override
+        public T tryNext() {
+            T next = decode(cursor::tryNext);
+            return next != null ? merge(collection, next) : null;
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return cursor.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return cursor.getServerAddress();
+        }
+    }
+}
@@ -10,4 +10,15 @@ import dev.morphia.AdvancedDatastore;
  */
 @SuppressWarnings("removal")
 public interface MorphiaSession extends AdvancedDatastore, ClientSession {
+    /**
+     * Enables the identity map of this session.  Entities read in the session, whether by query or through references, are tracked by
+     * collection and id.  Each document is then represented by a single instance for the life of the session: queries by id, reference
+     * lookups and refreshes of tracked entities are served from the map without a round trip and other queries return the tracked
+     * instance in place of a freshly decoded one.  Saves and inserts in the session update the map while updates and deletes drop what
+     * they may have changed.  Writes made outside the session are not seen by tracked entities.
+     *
+     * @return this
+     * @since 2.2
+     */
+    MorphiaSession enableIdentityMap();
 }
@@ -9,6 +9,7 @@ import dev.morphia.InsertManyOptions;
 import dev.morphia.InsertOneOptions;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.QueryFactory;
+import org.bson.Document;
 
 import java.util.List;
 
@@ -37,12 +38,14 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
     public <T> void insert(T entity, InsertOneOptions options) {
         super.insert(entity, new InsertOneOptions(options)
                                  .clientSession(findSession(options)));
+        track(entity);
     }
 
     @Override
     public <T> void insert(List<T> entities, InsertManyOptions options) {
         super.insert(entities, new InsertManyOptions(options)
                                    .clientSession(findSession(options)));
+        entities.forEach(this::track);
     }
 
     @Override
@@ -53,19 +56,45 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
 
     @Override
     public <T> T merge(T entity, InsertOneOptions options) {
+        // the stored document may hold more than the merged entity so the merged result is read back rather than served from the map
+        IdentityMap.invalidate(this, collectionName(entity), new Document("_id", getMapper().getId(entity)));
         return super.merge(entity, new InsertOneOptions(options)
                                        .clientSession(findSession(options)));
     }
 
     @Override
     public <T> List<T> save(List<T> entities, InsertManyOptions options) {
-        return super.save(entities, new InsertManyOptions(options)
-                                        .clientSession(findSession(options)));
+        List<T> saved = super.save(entities, new InsertManyOptions(options)
+                                                 .clientSession(findSession(options)));
+        saved.forEach(this::track);
+        return saved;
     }
 
     @Override
     public <T> T save(T entity, InsertOneOptions options) {
-        return super.save(entity, new InsertOneOptions(options)
-                                      .clientSession(findSession(options)));
+        T saved = super.save(entity, new InsertOneOptions(options)
+                                         .clientSession(findSession(options)));
+        track(saved);
+        return saved;
+    }
+
+    @Override
+    public <T> void refresh(T entity) {
+        IdentityMap identities = getIdentityMap();
+        if (identities == null || !identities.tracks(collectionName(entity), entity)) {
+            super.refresh(entity);
+            track(entity);
+        }
+    }
+
+    private String collectionName(Object entity) {
+        return getMapper().getEntityModel(entity.getClass()).getCollectionName();
+    }
+
+    private void track(Object entity) {
+        IdentityMap identities = getIdentityMap();
+        if (identities != null) {
+            identities.put(collectionName(entity), entity);
+        }
     }
 }
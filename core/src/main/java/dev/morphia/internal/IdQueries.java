@@ -0,0 +1,97 @@
+package dev.morphia.internal;
+
+import org.bson.Document;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Recognizes query documents which select documents by id alone.  Such queries can be answered, and the writes they define can be
+ * tracked, by id.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class IdQueries {
+    private IdQueries() {
+    }
+
+    /**
+     * @param query the query document
+     * @return the id the query selects a single document by or null if it selects by anything else
+     */
+    public static Object idOf(Document query) {
+        if (query.size() != 1 || !query.containsKey("_id")) {
+            return null;
+        }
+        Object id = query.get("_id");
+        return id instanceof Document && isOperator((Document) id) ? null : id;
+    }
+
+    /**
+     * @param query the query document
+     * @return the ids the query selects documents by, either by equality or {@code $in}, or null if it selects by anything else
+     */
+    public static List<Object> idsOf(Document query) {
+        if (query.size() != 1 || !query.containsKey("_id")) {
+            return null;
+        }
+        Object id = query.get("_id");
+        if (id == null) {
+            return null;
+        }
+        if (!(id instanceof Document) || !isOperator((Document) id)) {
+            return List.of(normalize(id));
+        }
+        Document operator = (Document) id;
+        Object values = operator.get("$in");
+        if (operator.size() != 1 || !(values instanceof Collection)) {
+            return null;
+        }
+        List<Object> ids = new ArrayList<>();
+        for (Object value : (Collection<?>) values) {
+            ids.add(normalize(value));
+        }
+        return ids;
+    }
+
+    /**
+     * The server matches numbers by value regardless of their type, e.g., an int filter finds a document whose id is the equal long.
+     * Whole numbers are therefore converted to longs so that equal ids compare equal whatever type they were given as.
+     *
+     * @param id the id
+     * @return the id as a long if it's a whole number within the range of longs or else the id unchanged
+     */
+    public static Object normalize(Object id) {
+        if (id instanceof Integer || id instanceof Short || id instanceof Byte) {
+            return ((Number) id).longValue();
+        }
+        if (id instanceof Double || id instanceof Float) {
+            double value = ((Number) id).doubleValue();
+            long whole = (long) value;
+            // casts saturate so Long.MAX_VALUE, which no double holds exactly, means the value was out of range
+            return whole == value && whole != Long.MAX_VALUE ? (Object) whole : id;
+        }
+        if (id instanceof Decimal128 && ((Decimal128) id).isFinite()) {
+            try {
+                // parsed from its text as bigDecimalValue() rejects negative zeros
+                return new BigDecimal(id.toString()).longValueExact();
+            } catch (ArithmeticException e) {
+                return id;
+            }
+        }
+        return id;
+    }
+
+    private static boolean isOperator(Document value) {
+        for (String key : value.keySet()) {
+            if (key.startsWith("$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
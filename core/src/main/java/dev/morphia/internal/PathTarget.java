@@ -23,24 +23,24 @@ import dev.morphia.query.ValidationException;
 import dev.morphia.sofia.Sofia;
 
 import java.util.Iterator;
-import java.util.List;
-import java.util.StringJoiner;
-
-import static java.util.Arrays.asList;
+import java.util.Map;
 
 /**
  * @morphia.internal
  * @since 1.3
  */
 public class PathTarget {
-    private final List<String> segments;
+    /**
+     * Paths can carry map keys and array indexes so the number of distinct paths seen by a model is unbounded.  Past this many, paths
+     * are still resolved but no longer cached.
+     */
+    private static final int MAX_CACHED_PATHS = 1024;
+
+    private final String path;
     private final boolean validateNames;
-    private int position;
     private final Mapper mapper;
     private final EntityModel root;
-    private EntityModel context;
-    private FieldModel target;
-    private boolean resolved;
+    private Resolution resolution;
 
     /**
      * Creates a resolution context for the given root and path.
@@ -62,11 +62,10 @@ public class PathTarget {
      * @param validateNames true if names should be validated
      */
     public PathTarget(Mapper mapper, EntityModel root, String path, boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
-        resolved = path.startsWith("$");
     }
 
     /**
@@ -100,12 +99,7 @@ public class PathTarget {
      * @return the translated path
      */
     public String translatedPath() {
-        if (!resolved) {
-            resolve();
-        }
-        StringJoiner joiner = new StringJoiner(".");
-        segments.forEach(s -> joiner.add(s));
-        return joiner.toString();
+        return resolve().translatedPath;
     }
 
     /**
@@ -114,85 +108,167 @@ public class PathTarget {
      * @return the field
      */
     public FieldModel getTarget() {
-        if (!resolved) {
-            resolve();
-        }
-        return target;
+        return resolve().target;
     }
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, path=%s, target=%s}", root.getType().getSimpleName(),
+            resolution != null ? resolution.translatedPath : path, resolution != null ? resolution.target : null);
     }
 
-    private boolean hasNext() {
-        return position < segments.size();
-    }
-
-    private void resolve() {
-        context = this.root;
-        position = 0;
-        FieldModel field = null;
-        while (hasNext()) {
-            String segment = next();
-
-            // array operator
-            if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]")) || segment.matches("[0-9]+")) {
-                if (!hasNext()) {
-                    break;
+    private Resolution resolve() {
+        if (resolution == null) {
+            if (path.startsWith("$")) {
+                resolution = new Resolution(path, null);
+            } else if (root == null) {
+                resolution = new Resolver().resolve();
+            } else {
+                Map<String, Resolution> cache = root.getResolvedPaths(validateNames);
+                Resolution cached = cache.get(path);
+                if (cached == null) {
+                    cached = new Resolver().resolve();
+                    if (cache.size() < MAX_CACHED_PATHS) {
+                        cache.putIfAbsent(path, cached);
+                    }
                 }
-                segment = next();
+                resolution = cached;
             }
-            field = resolveField(segment);
+        }
+        return resolution;
+    }
 
-            if (field != null) {
-                if (hasNext() && field.isReference()) {
-                    failValidation();
-                }
-                translate(field.getMappedName());
-                if (field.isMap() && hasNext()) {
-                    next();  // consume the map key segment
-                }
-            } else {
-                if (validateNames) {
-                    failValidation();
-                }
+    /**
+     * Splits a path on its dots.  Like {@link String#split(String)}, trailing empty segments are dropped.
+     */
+    private static String[] split(String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0) {
+            return path.isEmpty() ? new String[]{path} : new String[0];
+        }
+        int count = 1;
+        for (int i = 0; i < end; i++) {
+            if (path.charAt(i) == '.') {
+                count++;
             }
         }
-        target = field;
-        resolved = true;
+        String[] segments = new String[count];
+        int index = 0;
+        int start = 0;
+        for (int i = 0; i < end; i++) {
+            if (path.charAt(i) == '.') {
+                segments[index++] = path.substring(start, i);
+                start = i + 1;
+            }
+        }
+        segments[index] = path.substring(start, end);
+        return segments;
     }
 
-    private void failValidation() {
-        resolved = true;
-        throw new ValidationException(Sofia.invalidPathTarget(translatedPath(), root.getType().getName()));
+    private static boolean isArrayOperator(String segment) {
+        if ("$".equals(segment) || (segment.startsWith("$[") && segment.endsWith("]"))) {
+            return true;
+        }
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private void translate(String nameToStore) {
-        segments.set(position - 1, nameToStore);
+    /**
+     * The outcome of resolving a path against a model.  Instances are shared through the model's cache and so must not change.
+     *
+     * @morphia.internal
+     */
+    public static final class Resolution {
+        private final String translatedPath;
+        private final FieldModel target;
+
+        private Resolution(String translatedPath, FieldModel target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
     }
 
-    private FieldModel resolveField(String segment) {
-        if (context != null) {
-            FieldModel mf = context.getField(segment);
-            if (mf == null) {
-                Iterator<EntityModel> subTypes = context.getSubtypes().iterator();
-                while (mf == null && subTypes.hasNext()) {
-                    context = subTypes.next();
-                    mf = resolveField(segment);
+    private class Resolver {
+        private final String[] segments = split(path);
+        private int position;
+        private EntityModel context = root;
+
+        private Resolution resolve() {
+            FieldModel field = null;
+            while (hasNext()) {
+                String segment = next();
+
+                // array operator
+                if (isArrayOperator(segment)) {
+                    if (!hasNext()) {
+                        break;
+                    }
+                    segment = next();
                 }
-            }
+                field = resolveField(segment);
 
-            if (mf != null) {
-                context = mapper.getEntityModel(mf.getNormalizedType());
+                if (field != null) {
+                    if (hasNext() && field.isReference()) {
+                        failValidation();
+                    }
+                    translate(field.getMappedName());
+                    if (field.isMap() && hasNext()) {
+                        next();  // consume the map key segment
+                    }
+                } else {
+                    if (validateNames) {
+                        failValidation();
+                    }
+                }
             }
-            return mf;
-        } else {
-            return null;
+            return new Resolution(String.join(".", segments), field);
+        }
+
+        private boolean hasNext() {
+            return position < segments.length;
         }
-    }
 
-    String next() {
-        return segments.get(position++);
+        private String next() {
+            return segments[position++];
+        }
+
+        private void failValidation() {
+            throw new ValidationException(Sofia.invalidPathTarget(String.join(".", segments), root.getType().getName()));
+        }
+
+        private void translate(String nameToStore) {
+            segments[position - 1] = nameToStore;
+        }
+
+        private FieldModel resolveField(String segment) {
+            if (context != null) {
+                FieldModel mf = context.getField(segment);
+                if (mf == null) {
+                    Iterator<EntityModel> subTypes = context.getSubtypes().iterator();
+                    while (mf == null && subTypes.hasNext()) {
+                        context = subTypes.next();
+                        mf = resolveField(segment);
+                    }
+                }
+
+                if (mf != null) {
+                    context = mapper.getEntityModel(mf.getNormalizedType());
+                }
+                return mf;
+            } else {
+                return null;
+            }
+        }
     }
 }
@@ -0,0 +1,79 @@
+package dev.morphia.internal;
+
+import java.lang.reflect.Method;
+
+/**
+ * Reflective access to records.  Morphia is built for java 11 while records are only present on java 16 and newer.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class Records {
+    private static final Method IS_RECORD = method(Class.class, "isRecord");
+    private static final Method GET_RECORD_COMPONENTS = method(Class.class, "getRecordComponents");
+    private static final Method GET_NAME = IS_RECORD != null ? method(GET_RECORD_COMPONENTS.getReturnType().getComponentType(), "getName")
+                                                             : null;
+    private static final Method GET_TYPE = IS_RECORD != null ? method(GET_RECORD_COMPONENTS.getReturnType().getComponentType(), "getType")
+                                                             : null;
+
+    private Records() {
+    }
+
+    /**
+     * @param type the type to check
+     * @return true if the type is a record
+     */
+    public static boolean isRecord(Class<?> type) {
+        try {
+            return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param type the record type
+     * @return the names of the record's components, in declaration order
+     */
+    public static String[] componentNames(Class<?> type) {
+        Object[] components = components(type);
+        String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = (String) invoke(GET_NAME, components[i]);
+        }
+        return names;
+    }
+
+    /**
+     * @param type the record type
+     * @return the types of the record's components, in declaration order.  These are the parameter types of its canonical constructor.
+     */
+    public static Class<?>[] componentTypes(Class<?> type) {
+        Object[] components = components(type);
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = (Class<?>) invoke(GET_TYPE, components[i]);
+        }
+        return types;
+    }
+
+    private static Object[] components(Class<?> type) {
+        return (Object[]) invoke(GET_RECORD_COMPONENTS, type);
+    }
+
+    private static Object invoke(Method method, Object target) {
+        try {
+            return method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static Method method(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package dev.morphia.mapping;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the stored form of the entities read from the database so that saving them can send only the fields which changed.  Entities
+ * are held weakly and by identity so tracking neither keeps an entity alive nor depends on its equals() and hashCode().
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ChangeTracker {
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final Map<Key, BsonDocument> states = new ConcurrentHashMap<>();
+
+    /**
+     * Computes the update which brings a stored document from one state to another.  Only top level fields are compared.
+     *
+     * @param before  the stored state
+     * @param after   the new state
+     * @param unset   if true fields missing from the new state are removed
+     * @param skipped the fields to leave out of the update
+     * @return the update or an empty document if nothing changed
+     */
+    public static BsonDocument diff(BsonDocument before, BsonDocument after, boolean unset, Set<String> skipped) {
+        BsonDocument set = new BsonDocument();
+        for (Entry<String, BsonValue> entry : after.entrySet()) {
+            if (!skipped.contains(entry.getKey()) && !entry.getValue().equals(before.get(entry.getKey()))) {
+                set.put(entry.getKey(), entry.getValue());
+            }
+        }
+        BsonDocument removed = new BsonDocument();
+        if (unset) {
+            for (String name : before.keySet()) {
+                if (!skipped.contains(name) && !after.containsKey(name)) {
+                    removed.put(name, new BsonString(""));
+                }
+            }
+        }
+
+        BsonDocument update = new BsonDocument();
+        if (!set.isEmpty()) {
+            update.put("$set", set);
+        }
+        if (!removed.isEmpty()) {
+            update.put("$unset", removed);
+        }
+        return update;
+    }
+
+    /**
+     * Computes the stored state which results from applying the {@code $set} and {@code $unset} of an update, as returned by {@link
+     * #diff(BsonDocument, BsonDocument, boolean, Set)}, to a stored state.  Any other operators are ignored.
+     *
+     * @param before the stored state
+     * @param update the update applied
+     * @return the new stored state
+     */
+    public static BsonDocument apply(BsonDocument before, BsonDocument update) {
+        BsonDocument after = before.clone();
+        after.putAll(update.getDocument("$set", new BsonDocument()));
+        update.getDocument("$unset", new BsonDocument()).keySet().forEach(after::remove);
+        return after;
+    }
+
+    /**
+     * Records the stored state of an entity
+     *
+     * @param entity the entity
+     * @param state  the stored form of the entity
+     */
+    public void track(Object entity, BsonDocument state) {
+        expunge();
+        states.put(new Key(entity, queue), state);
+    }
+
+    /**
+     * @param entity the entity
+     * @return the last known stored state of the entity or null if the entity isn't tracked
+     */
+    public BsonDocument getState(Object entity) {
+        expunge();
+        return states.get(new Key(entity, null));
+    }
+
+    /**
+     * Stops tracking an entity
+     *
+     * @param entity the entity
+     */
+    public void forget(Object entity) {
+        states.remove(new Key(entity, null));
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            states.remove(reference);
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+        private final int hash;
+
+        private Key(Object entity, ReferenceQueue<Object> queue) {
+            super(entity, queue);
+            hash = System.identityHashCode(entity);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Object entity = get();
+            return entity != null && entity == ((Key) o).get();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package dev.morphia.mapping;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import dev.morphia.annotations.Cached;
+import dev.morphia.annotations.Entity;
+import dev.morphia.cache.CachedCollection;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.ProjectionCodec;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds what every operation on an entity type needs, resolved once rather than on each call: the collection with its write concern
+ * applied, the id and version fields, the codec, the discriminator values a query of the type matches, the codecs of its projections
+ * and, for cached types, the second level cache.  A context is replaced whenever a new type is mapped since that may add to the subtypes
+ * a query matches.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class EntityContext<T> {
+    private final Mapper mapper;
+    private final EntityModel model;
+    private final MongoCollection<T> collection;
+    private final WriteConcern writeConcern;
+    private final String discriminatorKey;
+    private final List<String> discriminators;
+    private final CachedCollection cache;
+    private final Map<Class<?>, ProjectionCodec<?>> projections = new ConcurrentHashMap<>();
+    private volatile Codec<T> codec;
+
+    EntityContext(Mapper mapper, Class<T> type, MongoCollection<T> collection) {
+        this.mapper = mapper;
+        model = mapper.getEntityModel(type);
+        if (model == null) {
+            throw new MappingException(Sofia.notMappable(type.getName()));
+        }
+        if (model.getCollectionName() == null) {
+            throw new MappingException(Sofia.noMappedCollection(type.getName()));
+        }
+
+        Entity annotation = model.getEntityAnnotation();
+        writeConcern = annotation != null && !annotation.concern().isEmpty() ? WriteConcern.valueOf(annotation.concern()) : null;
+        this.collection = writeConcern != null ? collection.withWriteConcern(writeConcern) : collection;
+
+        if (annotation != null && annotation.useDiscriminator()) {
+            List<String> values = new ArrayList<>();
+            values.add(model.getDiscriminator());
+            if (mapper.getOptions().isEnablePolymorphicQueries()) {
+                for (EntityModel subtype : model.getSubtypes()) {
+                    values.add(subtype.getDiscriminator());
+                }
+            }
+            discriminatorKey = model.getDiscriminatorKey();
+            discriminators = Collections.unmodifiableList(values);
+        } else {
+            discriminatorKey = null;
+            discriminators = null;
+        }
+
+        Cached cached = model.getAnnotation(Cached.class);
+        EntityCache entityCache = mapper.getOptions().getEntityCache();
+        cache = cached != null && entityCache != null
+                ? new CachedCollection(entityCache, model.getCollectionName(), Duration.of(cached.ttl(), cached.unit().toChronoUnit()),
+                    mapper.getCodecRegistry())
+                : null;
+    }
+
+    /**
+     * Restricts a query to the discriminators of this type and, if polymorphic queries are enabled, its subtypes.  Queries by id or which
+     * already name a discriminator are left as they are.
+     *
+     * @param query the query document
+     */
+    public void applyDiscriminator(Document query) {
+        if (discriminators != null && !query.containsKey("_id") && !query.containsKey(discriminatorKey)) {
+            query.put(discriminatorKey, new Document("$in", discriminators));
+        }
+    }
+
+    /**
+     * @return the second level cache of the type or null if the type isn't cached
+     */
+    public CachedCollection getCache() {
+        return cache;
+    }
+
+    /**
+     * @return the codec for the type
+     */
+    @SuppressWarnings("unchecked")
+    public Codec<T> getCodec() {
+        Codec<T> local = codec;
+        if (local == null) {
+            local = (Codec<T>) mapper.getCodecRegistry().get(model.getType());
+            codec = local;
+        }
+        return local;
+    }
+
+    /**
+     * @param type the projected type
+     * @param <R>  the projected type
+     * @return the codec reading the type's projections of this type
+     */
+    @SuppressWarnings("unchecked")
+    public <R> ProjectionCodec<R> getProjectionCodec(Class<R> type) {
+        return (ProjectionCodec<R>) projections.computeIfAbsent(type, key -> new ProjectionCodec<>(mapper, model, key));
+    }
+
+    /**
+     * @return the collection for the type with the mapped write concern applied
+     */
+    public MongoCollection<T> getCollection() {
+        return collection;
+    }
+
+    /**
+     * @return the id field or null if there is none
+     */
+    public FieldModel getIdField() {
+        return model.getIdField();
+    }
+
+    /**
+     * @return the model of the type
+     */
+    public EntityModel getModel() {
+        return model;
+    }
+
+    /**
+     * @return the read preference of the collection
+     */
+    public ReadPreference getReadPreference() {
+        return collection.getReadPreference();
+    }
+
+    /**
+     * @return the version field or null if the type isn't versioned
+     */
+    public FieldModel getVersionField() {
+        return model.getVersionField();
+    }
+
+    /**
+     * @return the write concern mapped for the type or null if there is none
+     */
+    public WriteConcern getWriteConcern() {
+        return writeConcern;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.morphia.mapping;
+
+/**
+ * This enum is used to determine how mapped fields are read and written when encoding and decoding entities.
+ *
+ * @since 2.2
+ */
+public enum FieldAccess {
+    /**
+     * Uses {@link java.lang.reflect.Field#get(Object)} and {@link java.lang.reflect.Field#set(Object, Object)} for every access.
+     */
+    REFLECTION,
+
+    /**
+     * Resolves a {@link java.lang.invoke.VarHandle} for each field once when the entity is mapped and uses it for every access.  Fields
+     * which can not be accessed this way, e.g. final fields, fall back to reflection.
+     */
+    VAR_HANDLE
+}
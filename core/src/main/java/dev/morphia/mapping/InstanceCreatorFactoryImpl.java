@@ -2,6 +2,7 @@ package dev.morphia.mapping;
 
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.experimental.ConstructorBinding;
 import dev.morphia.mapping.experimental.ConstructorCreator;
 import dev.morphia.sofia.Sofia;
 
@@ -13,7 +14,7 @@ import java.lang.reflect.Constructor;
 public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
     private final EntityModel model;
     private Constructor<?> noArgConstructor;
-    private Constructor<?> fullConstructor;
+    private ConstructorBinding binding;
 
     /**
      * Creates a factory for this type
@@ -26,18 +27,20 @@ public class InstanceCreatorFactoryImpl implements InstanceCreatorFactory {
 
     @Override
     public MorphiaInstanceCreator create() {
+        if (noArgConstructor != null) {
+            return new NoArgCreator(noArgConstructor);
+        }
+        if (binding != null) {
+            return new ConstructorCreator(binding);
+        }
         if (!model.getType().isInterface()) {
             try {
-                if (noArgConstructor == null) {
-                    noArgConstructor = model.getType().getDeclaredConstructor();
-                }
+                noArgConstructor = model.getType().getDeclaredConstructor();
                 return new NoArgCreator(noArgConstructor);
             } catch (NoSuchMethodException e) {
-                if (fullConstructor == null) {
-                    fullConstructor = ConstructorCreator.getFullConstructor(model);
-                }
-                if (fullConstructor != null) {
-                    return new ConstructorCreator(model, fullConstructor);
+                binding = ConstructorBinding.find(model);
+                if (binding != null) {
+                    return new ConstructorCreator(binding);
                 }
             }
         }
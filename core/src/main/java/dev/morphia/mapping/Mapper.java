@@ -10,6 +10,9 @@ import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.experimental.EmbeddedBuilder;
+import dev.morphia.cache.CachedCollection;
+import dev.morphia.cache.EntityCache;
+import dev.morphia.internal.IdQueries;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
@@ -18,6 +21,7 @@ import dev.morphia.mapping.codec.PrimitiveCodecRegistry;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.mapping.validation.MappingValidator;
@@ -25,11 +29,16 @@ import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.bson.BsonReader;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
 import org.bson.codecs.configuration.CodecRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
@@ -44,6 +53,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static dev.morphia.sofia.Sofia.entityOrEmbedded;
@@ -64,11 +74,15 @@ public class Mapper {
      */
     public static final String IGNORED_FIELDNAME = ".";
 
+    private static final Logger LOG = LoggerFactory.getLogger(Mapper.class);
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<Class, EntityModel> mappedEntities = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<EntityModel>> mappedEntitiesByCollection = new ConcurrentHashMap<>();
+    private final Map<Class, EntityContext> contexts = new ConcurrentHashMap<>();
+    private final AtomicInteger mappings = new AtomicInteger();
 
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
@@ -77,6 +91,7 @@ public class Mapper {
     private final MorphiaCodecProvider morphiaCodecProvider;
     private final Datastore datastore;
     private final CodecRegistry codecRegistry;
+    private final ChangeTracker changeTracker;
 
     /**
      * Creates a Mapper with the given options.
@@ -89,6 +104,7 @@ public class Mapper {
     public Mapper(Datastore datastore, CodecRegistry codecRegistry, MapperOptions options) {
         this.datastore = datastore;
         this.options = options;
+        changeTracker = options.isTrackChanges() ? new ChangeTracker() : null;
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
         this.codecRegistry = fromRegistries(
             fromProviders(new MorphiaTypesCodecProvider(this)),
@@ -107,6 +123,7 @@ public class Mapper {
      */
     public void addInterceptor(EntityInterceptor ei) {
         interceptors.add(ei);
+        mappedEntities.values().forEach(EntityModel::resetLifecycleFlags);
     }
 
     /**
@@ -151,7 +168,7 @@ public class Mapper {
      */
     public MongoCollection enforceWriteConcern(MongoCollection collection, Class type) {
         WriteConcern applied = getWriteConcern(type);
-        return applied != null
+        return applied != null && !applied.equals(collection.getWriteConcern())
                ? collection.withWriteConcern(applied)
                : collection;
     }
@@ -249,6 +266,16 @@ public class Mapper {
         return new ArrayList<>(entities);
     }
 
+    /**
+     * @return the tracker holding the stored state of loaded entities or null if changes aren't being tracked
+     * @morphia.internal
+     * @see MapperOptions.Builder#trackChanges(boolean)
+     * @since 2.2
+     */
+    public ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
     /**
      * @return the codec registry
      */
@@ -263,21 +290,36 @@ public class Mapper {
      * @morphia.internal
      */
     public <T> MongoCollection<T> getCollection(Class<T> type) {
-        EntityModel entityModel = getEntityModel(type);
-        if (entityModel == null) {
-            throw new MappingException(Sofia.notMappable(type.getName()));
-        }
-        if (entityModel.getCollectionName() == null) {
-            throw new MappingException(Sofia.noMappedCollection(type.getName()));
-        }
-
-        MongoCollection<T> collection = datastore.getDatabase().getCollection(entityModel.getCollectionName(), type);
+        return getContext(type).getCollection();
+    }
 
-        Entity annotation = entityModel.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+    /**
+     * Gets the resolved collection, write concern, codec and discriminators of an entity type.  They are built on first use and reused
+     * until another type is mapped.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the context
+     * @throws MappingException if the type is not mapped to a collection
+     * @morphia.internal
+     * @since 2.2
+     */
+    public <T> EntityContext<T> getContext(Class<T> type) {
+        EntityContext<T> context = contexts.get(type);
+        if (context == null) {
+            int generation = mappings.get();
+            EntityModel model = getEntityModel(type);
+            String name = model != null ? model.getCollectionName() : null;
+            MongoCollection<T> collection = name != null ? datastore.getDatabase().getCollection(name, type) : null;
+            context = new EntityContext<>(this, type, collection);
+            // a type mapped meanwhile may be a subtype the discriminators are missing.  register() counts the mapping before clearing
+            // the contexts so checking again after the put drops any context a concurrent clear() missed.
+            contexts.put(type, context);
+            if (mappings.get() != generation) {
+                contexts.remove(type, context);
+            }
         }
-        return collection;
+        return context;
     }
 
     /**
@@ -407,9 +449,14 @@ public class Mapper {
     public WriteConcern getWriteConcern(Class clazz) {
         WriteConcern wc = null;
         if (clazz != null) {
-            final Entity entityAnn = getEntityModel(clazz).getEntityAnnotation();
-            if (entityAnn != null && !entityAnn.concern().isEmpty()) {
-                wc = WriteConcern.valueOf(entityAnn.concern());
+            EntityModel model = getEntityModel(clazz);
+            if (model.getCollectionName() != null) {
+                wc = getContext(clazz).getWriteConcern();
+            } else {
+                final Entity entityAnn = model.getEntityAnnotation();
+                if (entityAnn != null && !entityAnn.concern().isEmpty()) {
+                    wc = WriteConcern.valueOf(entityAnn.concern());
+                }
             }
         }
 
@@ -423,6 +470,29 @@ public class Mapper {
         return !interceptors.isEmpty();
     }
 
+    /**
+     * Drops the second level cache's copies of the documents a write may have changed.  A write to documents selected by id drops only
+     * those documents.  Any other write drops the whole collection.
+     *
+     * @param collection the collection written to
+     * @param query      the query selecting the documents written
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void invalidate(String collection, Document query) {
+        EntityCache cache = options.getEntityCache();
+        if (cache != null) {
+            List<Object> ids = IdQueries.idsOf(query);
+            if (ids == null) {
+                cache.invalidate(collection);
+            } else {
+                for (Object id : ids) {
+                    cache.invalidate(collection, CachedCollection.key(getCodecRegistry(), id));
+                }
+            }
+        }
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -524,15 +594,31 @@ public class Mapper {
      * @param <T>    the entity type
      */
     public <T> void refresh(T entity) {
+        if (entity instanceof LazyEntity) {
+            // decode what is pending now so it is not later decoded over the refreshed state
+            ((LazyEntity) entity).unwrap();
+        }
         Codec<T> refreshCodec = morphiaCodecProvider.getRefreshCodec(entity, getCodecRegistry());
 
-        MongoCollection<?> collection = getCollection(entity.getClass());
-        Document id = collection.find(new Document("_id", getEntityModel(entity.getClass())
-                                                              .getIdField()
-                                                              .getValue(entity)), Document.class)
-                                .first();
-
-        refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        EntityContext<?> context = getContext(entity.getClass());
+        MongoCollection<?> collection = context.getCollection();
+        Object id = context.getIdField().getValue(entity);
+        CachedCollection cache = context.getCache();
+        if (cache == null) {
+            Document document = collection.find(new Document("_id", id), Document.class).first();
+            refreshCodec.decode(new DocumentReader(document), DecoderContext.builder().checkedDiscriminator(true).build());
+        } else {
+            RawBsonDocument document = cache.get(id);
+            if (document == null) {
+                document = collection.find(new Document("_id", id), RawBsonDocument.class).first();
+                if (document != null) {
+                    cache.put(document);
+                }
+            }
+            try (BsonReader reader = document.asBsonReader()) {
+                refreshCodec.decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+            }
+        }
     }
 
     /**
@@ -577,20 +663,8 @@ public class Mapper {
      * @param query the query document
      */
     public void updateQueryWithDiscriminators(EntityModel model, Document query) {
-        Entity annotation = model != null ? model.getEntityAnnotation() : null;
-        if (annotation != null && annotation.useDiscriminator()
-            && !query.containsKey("_id")
-            && !query.containsKey(model.getDiscriminatorKey())) {
-            List<EntityModel> subtypes = model.getSubtypes();
-            List<String> values = new ArrayList<>();
-            values.add(model.getDiscriminator());
-            if (options.isEnablePolymorphicQueries()) {
-                for (EntityModel subtype : subtypes) {
-                    values.add(subtype.getDiscriminator());
-                }
-            }
-            query.put(model.getDiscriminatorKey(),
-                new Document("$in", values));
+        if (model != null && model.getEntityAnnotation() != null && model.getCollectionName() != null) {
+            getContext(model.getType()).applyDiscriminator(query);
         }
     }
 
@@ -638,9 +712,25 @@ public class Mapper {
                         .reduce(false, (l, r) -> l || r);
     }
 
+    /**
+     * Builds the codec for a newly registered type so that the first read or write of it does not pay for that.  Types whose codecs can
+     * not be built yet, e.g., because they depend on types which have not been mapped, are left to be built on first use as before.
+     */
+    private void prebuildCodec(EntityModel entityModel) {
+        try {
+            codecRegistry.get(entityModel.getType());
+        } catch (CodecConfigurationException e) {
+            LOG.debug("Deferring codec creation for {}: {}", entityModel.getType().getName(), e.getMessage());
+        }
+    }
+
     private EntityModel register(EntityModel entityModel) {
         discriminatorLookup.addModel(entityModel);
         mappedEntities.put(entityModel.getType(), entityModel);
+        mappings.incrementAndGet();
+        contexts.clear();
+        // a new subtype can change how paths through its parents resolve
+        mappedEntities.values().forEach(EntityModel::clearResolvedPaths);
         if (entityModel.getEntityAnnotation() != null) {
             mappedEntitiesByCollection.computeIfAbsent(entityModel.getCollectionName(), s -> new CopyOnWriteArraySet<>())
                                       .add(entityModel);
@@ -649,7 +739,7 @@ public class Mapper {
         if (!entityModel.isInterface()) {
             new MappingValidator(entityModel.getInstanceCreatorFactory().create())
                 .validate(this, entityModel);
-
+            prebuildCodec(entityModel);
         }
 
         return entityModel;
@@ -3,6 +3,7 @@ package dev.morphia.mapping;
 
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Property;
+import dev.morphia.cache.EntityCache;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.LegacyQueryFactory;
@@ -27,12 +28,15 @@ public class MapperOptions {
     private final boolean ignoreFinals;
     private final boolean storeNulls;
     private final boolean storeEmpties;
+    private final boolean trackChanges;
     private final boolean cacheClassLookups;
     private final boolean mapSubPackages;
     private final DateStorage dateStorage;
+    private final FieldAccess fieldAccess;
     private final MorphiaInstanceCreator creator;
     private final String discriminatorKey;
     private final DiscriminatorFunction discriminator;
+    private final EntityCache entityCache;
     private final List<MorphiaConvention> conventions;
     private final NamingStrategy collectionNaming;
     private final NamingStrategy fieldNaming;
@@ -45,12 +49,14 @@ public class MapperOptions {
         ignoreFinals = builder.ignoreFinals;
         storeNulls = builder.storeNulls;
         storeEmpties = builder.storeEmpties;
+        trackChanges = builder.trackChanges;
         cacheClassLookups = builder.cacheClassLookups;
         mapSubPackages = builder.mapSubPackages;
         creator = builder.creator;
         classLoader = builder.classLoader;
         discriminatorKey = builder.discriminatorKey;
         discriminator = builder.discriminator;
+        entityCache = builder.entityCache;
         conventions = builder.conventions;
         collectionNaming = builder.collectionNaming;
         fieldNaming = builder.fieldNaming;
@@ -58,6 +64,7 @@ public class MapperOptions {
         queryFactory = builder.queryFactory;
         enablePolymorphicQueries = builder.enablePolymorphicQueries;
         dateStorage = builder.dateStorage;
+        fieldAccess = builder.fieldAccess;
     }
 
     /**
@@ -81,6 +88,9 @@ public class MapperOptions {
         builder.creator = original.getCreator();
         builder.classLoader = original.getClassLoader();
         builder.dateStorage = original.getDateStorage();
+        builder.fieldAccess = original.getFieldAccess();
+        builder.trackChanges = original.isTrackChanges();
+        builder.entityCache = original.getEntityCache();
         return builder;
     }
 
@@ -153,6 +163,14 @@ public class MapperOptions {
         return discriminatorKey;
     }
 
+    /**
+     * @return the strategy used to read and write mapped fields
+     * @since 2.2
+     */
+    public FieldAccess getFieldAccess() {
+        return fieldAccess;
+    }
+
     /**
      * @return the naming strategy for fields unless explicitly set via @Property
      * @see Property
@@ -161,6 +179,14 @@ public class MapperOptions {
         return fieldNaming;
     }
 
+    /**
+     * @return the cache of the entity types annotated with {@link dev.morphia.annotations.Cached} or null if there is none
+     * @since 2.2
+     */
+    public EntityCache getEntityCache() {
+        return entityCache;
+    }
+
     /**
      * @return the query factory used by the Datastore
      * @since 2.0
@@ -218,6 +244,14 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if Morphia should track the state of loaded entities so that saves only write the fields which changed
+     * @since 2.2
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
     /**
      * A builder class for setting mapping options
      */
@@ -228,14 +262,17 @@ public class MapperOptions {
         private boolean ignoreFinals;
         private boolean storeNulls;
         private boolean storeEmpties;
+        private boolean trackChanges;
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
         private boolean enablePolymorphicQueries;
         private MorphiaInstanceCreator creator;
         private ClassLoader classLoader;
         private DateStorage dateStorage = DateStorage.UTC;
+        private FieldAccess fieldAccess = FieldAccess.REFLECTION;
         private String discriminatorKey = "_t";
         private DiscriminatorFunction discriminator = DiscriminatorFunction.simpleName();
+        private EntityCache entityCache;
         private NamingStrategy collectionNaming = NamingStrategy.camelCase();
         private NamingStrategy fieldNaming = NamingStrategy.identity();
         private UuidRepresentation uuidRepresentation = STANDARD;
@@ -357,6 +394,32 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the second level cache.  Reads by id of the entity types annotated with {@link dev.morphia.annotations.Cached}, including
+         * the resolution of references to them, are served from the cache.  Reads within a session bypass it.
+         *
+         * @param entityCache the cache to use or null to disable caching
+         * @return this
+         * @see dev.morphia.cache.CacheInvalidator
+         * @since 2.2
+         */
+        public Builder entityCache(EntityCache entityCache) {
+            this.entityCache = entityCache;
+            return this;
+        }
+
+        /**
+         * The default value for this is {@link FieldAccess#REFLECTION}.
+         *
+         * @param fieldAccess the strategy to use when reading and writing mapped fields
+         * @return this
+         * @since 2.2
+         */
+        public Builder fieldAccess(FieldAccess fieldAccess) {
+            this.fieldAccess = fieldAccess;
+            return this;
+        }
+
         /**
          * Sets the naming strategy to use for fields unless expliclity set via @Property
          *
@@ -423,6 +486,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Enables change tracking.  When enabled, the stored form of each entity read from the database is kept, off the entity, for as
+         * long as the entity is reachable.  Saving or merging such an entity then sends only the fields which changed and skips the
+         * write entirely if nothing did.
+         *
+         * @param trackChanges if true the state of loaded entities is tracked
+         * @return this
+         * @since 2.2
+         */
+        public Builder trackChanges(boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * @param useLowerCaseCollectionNames if true, generated collections names are lower cased
          * @return this
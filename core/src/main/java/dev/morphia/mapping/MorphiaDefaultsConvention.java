@@ -101,7 +101,7 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
 
         builder
             .serialization(new MorphiaPropertySerialization(options, builder))
-            .accessor(getAccessor(field, builder));
+            .accessor(getAccessor(field, builder, options.getFieldAccess()));
         configureCodec(datastore, builder, field);
 
         if (isNotConcrete(builder.typeData())) {
@@ -109,10 +109,10 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
         }
     }
 
-    private PropertyAccessor<? super Object> getAccessor(Field field, FieldModelBuilder property) {
+    private PropertyAccessor<? super Object> getAccessor(Field field, FieldModelBuilder property, FieldAccess access) {
         return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-               ? new ArrayFieldAccessor(property.typeData(), field)
-               : new FieldAccessor(field);
+               ? new ArrayFieldAccessor(property.typeData(), field, access)
+               : new FieldAccessor(field, access);
     }
 
     private void configureCodec(Datastore datastore, FieldModelBuilder builder, Field field) {
@@ -21,6 +21,7 @@ class ArrayCodec implements Codec<Object> {
     private final Class type;
     private final Mapper mapper;
     private BsonTypeCodecMap bsonTypeCodecMap;
+    private Codec<?> componentCodec;
 
     <T> ArrayCodec(Mapper mapper, Class type) {
         this.mapper = mapper;
@@ -32,9 +33,19 @@ class ArrayCodec implements Codec<Object> {
     public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
         writer.writeStartArray();
         int length = Array.getLength(value);
+        Class<?> elementType = null;
+        Codec codec = null;
         for (int i = 0; i < length; i++) {
             Object element = Array.get(value, i);
-            Codec codec = mapper.getCodecRegistry().get(element.getClass());
+            if (element == null) {
+                writer.writeNull();
+                continue;
+            }
+            // arrays rarely mix element types so the codec is only looked up again when the type changes
+            if (element.getClass() != elementType) {
+                elementType = element.getClass();
+                codec = mapper.getCodecRegistry().get(elementType);
+            }
             codec.encode(writer, element, encoderContext);
         }
         writer.writeEndArray();
@@ -71,7 +82,14 @@ class ArrayCodec implements Codec<Object> {
         } else if (bsonType == BsonType.BINARY && BsonBinarySubType.isUuid(reader.peekBinarySubType()) && reader.peekBinarySize() == 16) {
             return mapper.getCodecRegistry().get(UUID.class).decode(reader, decoderContext);
         }
-        return mapper.getCodecRegistry().get(type.getComponentType()).decode(reader, decoderContext);
+        return getComponentCodec().decode(reader, decoderContext);
+    }
+
+    private Codec<?> getComponentCodec() {
+        if (componentCodec == null) {
+            componentCodec = mapper.getCodecRegistry().get(type.getComponentType());
+        }
+        return componentCodec;
     }
 
     private BsonTypeCodecMap getBsonTypeCodecMap() {
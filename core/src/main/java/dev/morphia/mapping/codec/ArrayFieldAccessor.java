@@ -1,5 +1,6 @@
 package dev.morphia.mapping.codec;
 
+import dev.morphia.mapping.FieldAccess;
 import dev.morphia.mapping.codec.pojo.TypeData;
 
 import java.lang.reflect.Array;
@@ -23,7 +24,19 @@ public class ArrayFieldAccessor extends FieldAccessor {
      * @param field    the field
      */
     public ArrayFieldAccessor(TypeData typeData, Field field) {
-        super(field);
+        this(typeData, field, FieldAccess.REFLECTION);
+    }
+
+    /**
+     * Creates the accessor
+     *
+     * @param typeData the type data
+     * @param field    the field
+     * @param access   the access strategy to use
+     * @since 2.2
+     */
+    public ArrayFieldAccessor(TypeData typeData, Field field, FieldAccess access) {
+        super(field, access);
         this.typeData = typeData;
         componentType = field.getType().getComponentType();
     }
@@ -31,7 +44,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
     @Override
     public void set(Object instance, Object value) {
         Object newValue = value;
-        if (value.getClass().getComponentType() != componentType) {
+        if (value != null && value.getClass().getComponentType() != componentType) {
             newValue = value instanceof List ? convert((List) value) : convert((Object[]) value);
         }
         super.set(instance, newValue);
@@ -61,6 +74,9 @@ public class ArrayFieldAccessor extends FieldAccessor {
 
 
     private Object convert(Object o, Class type) {
+        if (o == null && type.isPrimitive()) {
+            throw new IllegalArgumentException(format("Can't set %s with a null element", getField()));
+        }
         if (o instanceof List) {
             List list = (List) o;
             final Object newArray = Array.newInstance(type.getComponentType(), list.size());
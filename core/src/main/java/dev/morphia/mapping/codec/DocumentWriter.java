@@ -299,6 +299,17 @@ public class DocumentWriter implements BsonWriter {
         docsLevel++;
     }
 
+    /**
+     * Writes a value as is rather than through a codec.
+     *
+     * @param value the value
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void writeValue(Object value) {
+        state.value(value);
+    }
+
     @Override
     public void writeString(String value) {
         state.value(value);
@@ -1,15 +1,23 @@
 package dev.morphia.mapping.codec;
 
+import dev.morphia.mapping.FieldAccess;
 import dev.morphia.mapping.MappingException;
 import org.bson.codecs.pojo.PropertyAccessor;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 
 /**
  * @morphia.internal
  */
 public class FieldAccessor implements PropertyAccessor {
     private final Field field;
+    private final VarHandle handle;
+    private final Class<?> boxedType;
 
     /**
      * Creates the accessor for a field
@@ -17,7 +25,33 @@ public class FieldAccessor implements PropertyAccessor {
      * @param field the field itself
      */
     public FieldAccessor(Field field) {
+        this(field, FieldAccess.REFLECTION);
+    }
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field  the field itself
+     * @param access the access strategy to use
+     * @since 2.2
+     */
+    public FieldAccessor(Field field, FieldAccess access) {
         this.field = field;
+        this.handle = access == FieldAccess.VAR_HANDLE ? findHandle(field) : null;
+        boxedType = field.getType().isPrimitive() ? MethodType.methodType(field.getType()).wrap().returnType() : null;
+    }
+
+    private static VarHandle findHandle(Field field) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+            return null;
+        }
+        try {
+            return MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+                                .unreflectVarHandle(field);
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
     }
 
     protected Field getField() {
@@ -26,6 +60,9 @@ public class FieldAccessor implements PropertyAccessor {
 
     @Override
     public Object get(Object instance) {
+        if (handle != null) {
+            return handle.get(instance);
+        }
         try {
             return field.get(instance);
         } catch (IllegalAccessException e) {
@@ -35,6 +72,15 @@ public class FieldAccessor implements PropertyAccessor {
 
     @Override
     public void set(Object instance, Object value) {
+        if (handle != null && (boxedType == null || value != null && value.getClass() == boxedType)) {
+            try {
+                handle.set(instance, value);
+                return;
+            } catch (ClassCastException | WrongMethodTypeException ignored) {
+                // let reflection report the mismatched type
+            }
+        }
+        // reflection applies widening conversions, e.g., an Integer into a long field, and rejects nulls for primitives
         try {
             field.set(instance, value);
         } catch (IllegalArgumentException e) {
@@ -11,9 +11,9 @@ import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -21,7 +21,7 @@ import java.util.Map;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders;
     private final Datastore datastore;
@@ -47,7 +47,11 @@ public class MorphiaCodecProvider implements CodecProvider {
         if (codec == null && mapper.isMappable(type)) {
             codec = new MorphiaCodec(datastore, mapper.getEntityModel(type), propertyCodecProviders,
                 mapper.getDiscriminatorLookup(), registry);
-            codecs.put(type, codec);
+            // another thread might have built one in the meantime.  only the first codec published is ever handed out.
+            MorphiaCodec existing = (MorphiaCodec) codecs.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
         }
 
         return codec;
@@ -19,6 +19,9 @@ public class MorphiaCollectionPropertyCodecProvider extends MorphiaPropertyCodec
         if (Collection.class.isAssignableFrom(type.getType())) {
             final List<? extends TypeWithTypeParameters<?>> typeParameters = type.getTypeParameters();
             TypeWithTypeParameters<?> valueType = getType(typeParameters, 0);
+            if (NumberListCodec.supports(type.getType(), valueType.getType())) {
+                return new NumberListCodec(type.getType(), valueType.getType());
+            }
 
             try {
                 return new MorphiaCollectionCodec(type, registry, valueType);
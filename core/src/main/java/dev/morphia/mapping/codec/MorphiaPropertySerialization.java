@@ -17,38 +17,46 @@ import java.util.Map;
  */
 @SuppressWarnings("removal")
 public class MorphiaPropertySerialization implements PropertySerialization {
-    private final List<Annotation> annotations;
-    private final MapperOptions options;
-    private final int modifiers;
+    private final boolean storeNulls;
+    private final boolean storeEmpties;
+    private final boolean excluded;
 
     /**
      * @param options the options to apply
      * @param field   the field in question
      */
     public MorphiaPropertySerialization(MapperOptions options, FieldModelBuilder field) {
-        this.options = options;
-        annotations = field.annotations();
-        modifiers = field.field().getModifiers();
+        storeNulls = options.isStoreNulls();
+        storeEmpties = options.isStoreEmpties();
+        excluded = options.isIgnoreFinals() && Modifier.isFinal(field.field().getModifiers())
+                   || hasAnnotation(field.annotations(), LoadOnly.class)
+                   || hasAnnotation(field.annotations(), NotSaved.class);
+    }
+
+    /**
+     * @return true if the field is never written whatever its value, e.g., because it is marked {@code @LoadOnly}
+     * @since 2.2
+     */
+    public boolean isExcluded() {
+        return excluded;
     }
 
     @Override
     public boolean shouldSerialize(Object value) {
-        if (!options.isStoreNulls() && value == null) {
+        if (excluded) {
             return false;
         }
-        if (options.isIgnoreFinals() && Modifier.isFinal(modifiers)) {
-            return false;
+        if (value == null) {
+            return storeNulls;
         }
-        if (!options.isStoreEmpties()) {
-            if (value instanceof Map && ((Map) value).isEmpty()
-                || value instanceof Collection && ((Collection) value).isEmpty()) {
-                return false;
-            }
+        if (!storeEmpties) {
+            return !(value instanceof Map && ((Map) value).isEmpty()
+                     || value instanceof Collection && ((Collection) value).isEmpty());
         }
-        return !hasAnnotation(LoadOnly.class) && !hasAnnotation(NotSaved.class);
+        return true;
     }
 
-    private boolean hasAnnotation(Class<? extends Annotation> annotationClass) {
+    private static boolean hasAnnotation(List<Annotation> annotations, Class<? extends Annotation> annotationClass) {
         return annotations.stream().anyMatch(a -> a.annotationType().equals(annotationClass));
     }
 }
@@ -35,18 +35,20 @@ public class MorphiaTypesCodecProvider implements CodecProvider {
         addCodec(new KeyCodec(mapper));
         addCodec(new LocaleCodec());
         addCodec(new ObjectCodec(mapper));
+        addCodec(new ParameterCodec());
         addCodec(new ShapeCodec());
         addCodec(new LegacyQueryCodec(mapper));
         addCodec(new MorphiaQueryCodec(mapper));
         addCodec(new URICodec());
 
+        PrimitiveArrayCodecs.codecs().forEach(this::addCodec);
         List.of(boolean.class, Boolean.class,
             byte.class, Byte.class,
             char.class, Character.class,
-            double.class, Double.class,
-            float.class, Float.class,
-            int.class, Integer.class,
-            long.class, Long.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
             short.class, Short.class).forEach(c -> addCodec(new TypedArrayCodec(c, mapper)));
     }
 
@@ -0,0 +1,99 @@
+package dev.morphia.mapping.codec;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static dev.morphia.mapping.codec.PrimitiveArrayCodecs.readDouble;
+import static dev.morphia.mapping.codec.PrimitiveArrayCodecs.readInt;
+import static dev.morphia.mapping.codec.PrimitiveArrayCodecs.readLong;
+
+/**
+ * A codec for lists of Integer, Long, Float or Double which reads and writes each element directly rather than through the codec of the
+ * element type.  Like {@link MorphiaCollectionCodec}, a single value is read as a list of that one value.
+ *
+ * @param <T> the element type
+ */
+class NumberListCodec<T extends Number> implements Codec<Collection<T>> {
+    private static final List<Class<?>> TYPES = List.of(Integer.class, Long.class, Float.class, Double.class);
+
+    private final Class<Collection<T>> encoderClass;
+    private final Class<T> type;
+
+    NumberListCodec(Class<Collection<T>> encoderClass, Class<T> type) {
+        this.encoderClass = encoderClass;
+        this.type = type;
+    }
+
+    /**
+     * @param collectionType the collection type
+     * @param elementType    the element type
+     * @return true if the collection can be decoded as an ArrayList of values of the element type
+     */
+    static boolean supports(Class<?> collectionType, Class<?> elementType) {
+        return TYPES.contains(elementType) && collectionType.isAssignableFrom(ArrayList.class);
+    }
+
+    @Override
+    public Collection<T> decode(BsonReader reader, DecoderContext decoderContext) {
+        List<T> list = new ArrayList<>();
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            list.add(read(reader));
+            return list;
+        }
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (reader.getCurrentBsonType() == BsonType.NULL) {
+                reader.readNull();
+                list.add(null);
+            } else {
+                list.add(read(reader));
+            }
+        }
+        reader.readEndArray();
+        return list;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Collection<T> values, EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (T value : values) {
+            if (value == null) {
+                writer.writeNull();
+            } else if (type == Integer.class) {
+                writer.writeInt32(value.intValue());
+            } else if (type == Long.class) {
+                writer.writeInt64(value.longValue());
+            } else {
+                writer.writeDouble(value.doubleValue());
+            }
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public Class<Collection<T>> getEncoderClass() {
+        return encoderClass;
+    }
+
+    private T read(BsonReader reader) {
+        Number value;
+        if (type == Integer.class) {
+            value = readInt(reader);
+        } else if (type == Long.class) {
+            value = readLong(reader);
+        } else if (type == Float.class) {
+            value = (float) readDouble(reader);
+        } else {
+            value = readDouble(reader);
+        }
+        return type.cast(value);
+    }
+}
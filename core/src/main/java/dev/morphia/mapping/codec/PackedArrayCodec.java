@@ -0,0 +1,256 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.annotations.experimental.Packed;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.TypeData;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes the values of {@link Packed} fields as a single binary value.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PackedArrayCodec extends PropertyCodec<Object> {
+    private final Kind kind;
+    private final boolean list;
+    private final Codec plain;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore to use
+     * @param field     the packed field
+     * @param typeData  the field type data
+     */
+    public PackedArrayCodec(Datastore datastore, Field field, TypeData typeData) {
+        super(datastore, field, typeData);
+        Class<?> type = field.getType();
+        list = Collection.class.isAssignableFrom(type);
+        if (list && typeData.getTypeParameters().size() == 1 && type.isAssignableFrom(ArrayList.class)) {
+            Class<?> elementType = ((TypeData<?>) typeData.getTypeParameters().get(0)).getType();
+            kind = Kind.of(elementType);
+            plain = kind != null ? new NumberListCodec(type, elementType) : null;
+        } else if (type.isArray() && type.getComponentType().isPrimitive()) {
+            kind = Kind.of(type.getComponentType());
+            plain = kind != null ? kind.codec : null;
+        } else {
+            kind = null;
+            plain = null;
+        }
+        if (kind == null) {
+            throw new MappingException(Sofia.packedTypeNotSupported(field.getDeclaringClass().getName(), field.getName(),
+                field.getGenericType().getTypeName()));
+        }
+    }
+
+    @Override
+    public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() != BsonType.BINARY) {
+            return plain.decode(reader, decoderContext);
+        }
+        Object values = kind.unpack(reader);
+        return list ? kind.toList(values) : values;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
+        if (list && hasNulls((Collection<?>) value)) {
+            // nulls can't be packed so such lists are written as arrays
+            plain.encode(writer, value, encoderContext);
+        } else {
+            Object values = list ? kind.toArray((Collection<?>) value) : value;
+            writer.writeBinaryData(new BsonBinary(BsonBinarySubType.USER_DEFINED, kind.pack(values)));
+        }
+    }
+
+    @Override
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) getField().getType();
+    }
+
+    private static boolean hasNulls(Collection<?> values) {
+        for (Object value : values) {
+            if (value == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Kind {
+        INT(int.class, Integer.class, Integer.BYTES, new PrimitiveArrayCodecs.IntArrayCodec()) {
+            @Override
+            Object unpack(BsonReader reader) {
+                return PrimitiveArrayCodecs.unpackInts(reader);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, Object values) {
+                buffer.asIntBuffer().put((int[]) values);
+            }
+
+            @Override
+            Object toArray(Collection<?> values) {
+                int[] array = new int[values.size()];
+                int i = 0;
+                for (Object value : values) {
+                    array[i++] = ((Number) value).intValue();
+                }
+                return array;
+            }
+
+            @Override
+            List<?> toList(Object values) {
+                List<Integer> list = new ArrayList<>();
+                for (int value : (int[]) values) {
+                    list.add(value);
+                }
+                return list;
+            }
+        },
+        LONG(long.class, Long.class, Long.BYTES, new PrimitiveArrayCodecs.LongArrayCodec()) {
+            @Override
+            Object unpack(BsonReader reader) {
+                return PrimitiveArrayCodecs.unpackLongs(reader);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, Object values) {
+                buffer.asLongBuffer().put((long[]) values);
+            }
+
+            @Override
+            Object toArray(Collection<?> values) {
+                long[] array = new long[values.size()];
+                int i = 0;
+                for (Object value : values) {
+                    array[i++] = ((Number) value).longValue();
+                }
+                return array;
+            }
+
+            @Override
+            List<?> toList(Object values) {
+                List<Long> list = new ArrayList<>();
+                for (long value : (long[]) values) {
+                    list.add(value);
+                }
+                return list;
+            }
+        },
+        FLOAT(float.class, Float.class, Float.BYTES, new PrimitiveArrayCodecs.FloatArrayCodec()) {
+            @Override
+            Object unpack(BsonReader reader) {
+                return PrimitiveArrayCodecs.unpackFloats(reader);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, Object values) {
+                buffer.asFloatBuffer().put((float[]) values);
+            }
+
+            @Override
+            Object toArray(Collection<?> values) {
+                float[] array = new float[values.size()];
+                int i = 0;
+                for (Object value : values) {
+                    array[i++] = ((Number) value).floatValue();
+                }
+                return array;
+            }
+
+            @Override
+            List<?> toList(Object values) {
+                List<Float> list = new ArrayList<>();
+                for (float value : (float[]) values) {
+                    list.add(value);
+                }
+                return list;
+            }
+        },
+        DOUBLE(double.class, Double.class, Double.BYTES, new PrimitiveArrayCodecs.DoubleArrayCodec()) {
+            @Override
+            Object unpack(BsonReader reader) {
+                return PrimitiveArrayCodecs.unpackDoubles(reader);
+            }
+
+            @Override
+            void put(ByteBuffer buffer, Object values) {
+                buffer.asDoubleBuffer().put((double[]) values);
+            }
+
+            @Override
+            Object toArray(Collection<?> values) {
+                double[] array = new double[values.size()];
+                int i = 0;
+                for (Object value : values) {
+                    array[i++] = ((Number) value).doubleValue();
+                }
+                return array;
+            }
+
+            @Override
+            List<?> toList(Object values) {
+                List<Double> list = new ArrayList<>();
+                for (double value : (double[]) values) {
+                    list.add(value);
+                }
+                return list;
+            }
+        };
+
+        private final Class<?> primitive;
+        private final Class<?> boxed;
+        private final int bytes;
+        private final Codec<?> codec;
+
+        Kind(Class<?> primitive, Class<?> boxed, int bytes, Codec<?> codec) {
+            this.primitive = primitive;
+            this.boxed = boxed;
+            this.bytes = bytes;
+            this.codec = codec;
+        }
+
+        static Kind of(Class<?> type) {
+            for (Kind kind : values()) {
+                if (kind.primitive == type || kind.boxed == type) {
+                    return kind;
+                }
+            }
+            return null;
+        }
+
+        byte[] pack(Object values) {
+            ByteBuffer buffer = ByteBuffer.allocate(Array.getLength(values) * bytes).order(ByteOrder.LITTLE_ENDIAN);
+            put(buffer, values);
+            return buffer.array();
+        }
+
+        abstract void put(ByteBuffer buffer, Object values);
+
+        abstract Object toArray(Collection<?> values);
+
+        abstract List<?> toList(Object values);
+
+        abstract Object unpack(BsonReader reader);
+    }
+}
@@ -0,0 +1,37 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.query.Parameter;
+import dev.morphia.query.QueryException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+/**
+ * Defines a codec for query parameters.  Parameters are written as is in to query templates and fail anywhere else since no value has
+ * been bound to them.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ParameterCodec implements Codec<Parameter> {
+    @Override
+    public Parameter decode(BsonReader reader, DecoderContext decoderContext) {
+        throw new UnsupportedOperationException(Sofia.encodingOnly());
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Parameter value, EncoderContext encoderContext) {
+        if (!(writer instanceof DocumentWriter)) {
+            throw new QueryException(Sofia.unboundParameter(value.getName()));
+        }
+        ((DocumentWriter) writer).writeValue(value);
+    }
+
+    @Override
+    public Class<Parameter> getEncoderClass() {
+        return Parameter.class;
+    }
+}
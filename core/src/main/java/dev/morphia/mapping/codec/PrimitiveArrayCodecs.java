@@ -0,0 +1,279 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Codecs for arrays of numeric primitives which read and write each element directly rather than boxing it and going through the
+ * codec of its wrapper type.  Besides BSON arrays, each codec also reads the packed form written for {@link
+ * dev.morphia.annotations.experimental.Packed} fields.
+ */
+final class PrimitiveArrayCodecs {
+    private static final int INITIAL_SIZE = 16;
+
+    private PrimitiveArrayCodecs() {
+    }
+
+    static List<Codec<?>> codecs() {
+        return List.of(new IntArrayCodec(), new LongArrayCodec(), new FloatArrayCodec(), new DoubleArrayCodec());
+    }
+
+    /**
+     * Reads packed values, which are stored as user defined binary data holding whole elements only.  Any other binary data is rejected
+     * so that the decoder falls back to reading it generically.
+     */
+    static ByteBuffer unpack(BsonReader reader, Class<?> element, int size) {
+        BsonBinary binary = reader.readBinaryData();
+        if (binary.getType() != BsonBinarySubType.USER_DEFINED.getValue() || binary.getData().length % size != 0) {
+            throw new BsonInvalidOperationException(Sofia.invalidPackedData(String.valueOf(binary.getType() & 0xff),
+                String.valueOf(binary.getData().length), element));
+        }
+        return ByteBuffer.wrap(binary.getData()).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    static double[] unpackDoubles(BsonReader reader) {
+        DoubleBuffer buffer = unpack(reader, double.class, Double.BYTES).asDoubleBuffer();
+        double[] values = new double[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+
+    static float[] unpackFloats(BsonReader reader) {
+        FloatBuffer buffer = unpack(reader, float.class, Float.BYTES).asFloatBuffer();
+        float[] values = new float[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+
+    static int[] unpackInts(BsonReader reader) {
+        IntBuffer buffer = unpack(reader, int.class, Integer.BYTES).asIntBuffer();
+        int[] values = new int[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+
+    static long[] unpackLongs(BsonReader reader) {
+        LongBuffer buffer = unpack(reader, long.class, Long.BYTES).asLongBuffer();
+        long[] values = new long[buffer.remaining()];
+        buffer.get(values);
+        return values;
+    }
+
+    static double readDouble(BsonReader reader) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case DOUBLE:
+                return reader.readDouble();
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            case DECIMAL128:
+                return reader.readDecimal128().bigDecimalValue().doubleValue();
+            default:
+                throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(double.class, type));
+        }
+    }
+
+    static int readInt(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.INT32) {
+            return reader.readInt32();
+        }
+        long value = readLong(reader, int.class);
+        try {
+            return Math.toIntExact(value);
+        } catch (ArithmeticException e) {
+            throw new BsonInvalidOperationException(Sofia.lossyConversion(String.valueOf(value), int.class));
+        }
+    }
+
+    static long readLong(BsonReader reader) {
+        return readLong(reader, long.class);
+    }
+
+    private static long readLong(BsonReader reader, Class<?> target) {
+        BsonType type = reader.getCurrentBsonType();
+        switch (type) {
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            case DOUBLE:
+                double value = reader.readDouble();
+                long converted = (long) value;
+                // casts saturate so a result of Long.MAX_VALUE, which no double holds exactly, means the value was out of range
+                if (converted != value || converted == Long.MAX_VALUE) {
+                    throw new BsonInvalidOperationException(Sofia.lossyConversion(String.valueOf(value), target));
+                }
+                return converted;
+            case DECIMAL128:
+                Decimal128 decimal = reader.readDecimal128();
+                if (decimal.isFinite()) {
+                    // parsed from its text as bigDecimalValue() rejects negative zeros
+                    try {
+                        return new BigDecimal(decimal.toString()).longValueExact();
+                    } catch (ArithmeticException ignored) {
+                        // reported below
+                    }
+                }
+                throw new BsonInvalidOperationException(Sofia.lossyConversion(String.valueOf(decimal), target));
+            default:
+                throw new BsonInvalidOperationException(Sofia.invalidBsonOperation(target, type));
+        }
+    }
+
+    static class DoubleArrayCodec implements Codec<double[]> {
+        @Override
+        public double[] decode(BsonReader reader, DecoderContext decoderContext) {
+            if (reader.getCurrentBsonType() == BsonType.BINARY) {
+                return unpackDoubles(reader);
+            }
+            double[] values = new double[INITIAL_SIZE];
+            int size = 0;
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = readDouble(reader);
+            }
+            reader.readEndArray();
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public void encode(BsonWriter writer, double[] values, EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (double value : values) {
+                writer.writeDouble(value);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public Class<double[]> getEncoderClass() {
+            return double[].class;
+        }
+    }
+
+    static class FloatArrayCodec implements Codec<float[]> {
+        @Override
+        public float[] decode(BsonReader reader, DecoderContext decoderContext) {
+            if (reader.getCurrentBsonType() == BsonType.BINARY) {
+                return unpackFloats(reader);
+            }
+            float[] values = new float[INITIAL_SIZE];
+            int size = 0;
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = (float) readDouble(reader);
+            }
+            reader.readEndArray();
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public void encode(BsonWriter writer, float[] values, EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (float value : values) {
+                writer.writeDouble(value);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public Class<float[]> getEncoderClass() {
+            return float[].class;
+        }
+    }
+
+    static class IntArrayCodec implements Codec<int[]> {
+        @Override
+        public int[] decode(BsonReader reader, DecoderContext decoderContext) {
+            if (reader.getCurrentBsonType() == BsonType.BINARY) {
+                return unpackInts(reader);
+            }
+            int[] values = new int[INITIAL_SIZE];
+            int size = 0;
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = readInt(reader);
+            }
+            reader.readEndArray();
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public void encode(BsonWriter writer, int[] values, EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (int value : values) {
+                writer.writeInt32(value);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public Class<int[]> getEncoderClass() {
+            return int[].class;
+        }
+    }
+
+    static class LongArrayCodec implements Codec<long[]> {
+        @Override
+        public long[] decode(BsonReader reader, DecoderContext decoderContext) {
+            if (reader.getCurrentBsonType() == BsonType.BINARY) {
+                return unpackLongs(reader);
+            }
+            long[] values = new long[INITIAL_SIZE];
+            int size = 0;
+            reader.readStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                values[size++] = readLong(reader);
+            }
+            reader.readEndArray();
+            return Arrays.copyOf(values, size);
+        }
+
+        @Override
+        public void encode(BsonWriter writer, long[] values, EncoderContext encoderContext) {
+            writer.writeStartArray();
+            for (long value : values) {
+                writer.writeInt64(value);
+            }
+            writer.writeEndArray();
+        }
+
+        @Override
+        public Class<long[]> getEncoderClass() {
+            return long[].class;
+        }
+    }
+}
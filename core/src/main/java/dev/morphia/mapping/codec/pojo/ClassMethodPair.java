@@ -1,72 +1,96 @@
 package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.Datastore;
-import dev.morphia.mapping.MappingException;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
+import java.lang.reflect.Modifier;
 import java.util.List;
 
 /**
  * @morphia.internal
  */
 public class ClassMethodPair {
-    private final Class<?> type;
+    private static final MethodType CALLBACK = MethodType.methodType(void.class, Object.class, Object.class, Document.class);
+
+    private final Object listener;
     private final Method method;
     private final Datastore datastore;
-    private final Class<? extends Annotation> event;
+    private final String event;
+    private final MethodHandle handle;
+    private final boolean usesDocument;
 
-    ClassMethodPair(Datastore datastore, Method method, Class<?> type, Class<? extends Annotation> event) {
-        this.event = event;
-        this.type = type;
+    ClassMethodPair(Datastore datastore, Method method, Object listener, Class<? extends Annotation> event) {
+        this.event = event.getSimpleName();
+        this.listener = listener;
         this.method = method;
         this.datastore = datastore;
+        this.handle = callback(method);
+        this.usesDocument = List.of(method.getParameterTypes()).contains(Document.class);
     }
 
     void invoke(Document document, Object entity) {
+        Object instance = listener != null ? listener : entity;
+        Sofia.logCallingLifecycleMethod(event, method, instance);
         try {
-            Object instance;
-            if (type != null) {
-                instance = getOrCreateInstance(type);
-            } else {
-                instance = entity;
-            }
+            handle.invokeExact(instance, entity, document);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
 
-            final Method method = getMethod();
+    /**
+     * Adapts the callback to take the instance to call it on, the entity and the document regardless of the parameters the method
+     * declares so that invoking it needs neither reflection nor an argument array.
+     */
+    private MethodHandle callback(Method method) {
+        MethodHandle target;
+        try {
             method.setAccessible(true);
+            target = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
 
-            Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
-            List<Object> args = new ArrayList<>();
-
-            for (Class<?> parameterType : method.getParameterTypes()) {
-                if (parameterType.equals(Document.class)) {
-                    args.add(document);
-                } else if (parameterType.equals(Datastore.class)) {
-                    args.add(datastore);
-                } else {
-                    args.add(entity);
-                }
+        Class<?>[] parameters = method.getParameterTypes();
+        for (int i = parameters.length - 1; i >= 0; i--) {
+            if (parameters[i].equals(Datastore.class)) {
+                target = MethodHandles.insertArguments(target, i + 1, datastore);
             }
-            if (instance == null) {
-                method.invoke(args.toArray());
-            } else {
-                method.invoke(instance, args.toArray());
+        }
+
+        int[] reorder = new int[target.type().parameterCount()];
+        int position = 1;
+        for (Class<?> parameter : parameters) {
+            if (parameter.equals(Document.class)) {
+                reorder[position++] = 2;
+            } else if (!parameter.equals(Datastore.class)) {
+                reorder[position++] = 1;
             }
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException(e.getMessage(), e);
         }
-    }
 
-    private Object getOrCreateInstance(Class<?> type) {
-        try {
-            return type.getDeclaredConstructor(new Class[0]).newInstance();
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
+        MethodType generic = target.type().changeReturnType(void.class);
+        for (int i = 0; i < reorder.length; i++) {
+            generic = generic.changeParameterType(i, reorder[i] == 2 ? Document.class : Object.class);
         }
+        return MethodHandles.permuteArguments(target.asType(generic), CALLBACK, reorder);
+    }
 
+    /**
+     * @return true if the callback declares a Document parameter
+     */
+    boolean usesDocument() {
+        return usesDocument;
     }
 
     Method getMethod() {
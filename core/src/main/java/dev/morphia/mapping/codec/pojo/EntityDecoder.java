@@ -3,8 +3,12 @@ package dev.morphia.mapping.codec.pojo;
 import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.mapping.DiscriminatorLookup;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.NoArgCreator;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.reader.DocumentReader;
+import dev.morphia.mapping.experimental.ReferenceBatch;
+import dev.morphia.mapping.experimental.ReferenceBatch.Deferred;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonReader;
 import org.bson.BsonReaderMark;
@@ -22,6 +26,8 @@ import static dev.morphia.mapping.codec.Conversions.convert;
  * @since 2.0
  */
 public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
+    private static final int MAX_SKIPPED = 4;
+
     private final MorphiaCodec<?> morphiaCodec;
 
     protected EntityDecoder(MorphiaCodec<?> morphiaCodec) {
@@ -30,22 +36,40 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
 
     @Override
     public Object decode(BsonReader reader, DecoderContext decoderContext) {
+        EntityModel classModel = morphiaCodec.getEntityModel();
+        Mapper mapper = morphiaCodec.getMapper();
+        if (!decoderContext.hasCheckedDiscriminator()) {
+            return getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
+                morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
+                       .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+        }
+
+        boolean lifecycle = classModel.hasLifecycle(PreLoad.class, mapper) || classModel.hasLifecycle(PostLoad.class, mapper);
+        if (lifecycle && (classModel.needsDocument(PreLoad.class, mapper) || classModel.needsDocument(PostLoad.class, mapper))) {
+            return decodeWithLifecycle(reader, decoderContext);
+        }
+
+        MorphiaInstanceCreator instanceCreator = getInstanceCreator(classModel);
+        LazyType lazyType = morphiaCodec.getLazyType();
+        if (!lifecycle && lazyType != null && instanceCreator instanceof NoArgCreator) {
+            return lazyType.decode(reader, decoderContext);
+        }
+        ReferenceBatch batch = ReferenceBatch.current();
+        int mark = batch != null ? batch.mark() : 0;
         Object entity;
-        if (morphiaCodec.getEntityModel().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getEntityModel().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
-            entity = decodeWithLifecycle(reader, decoderContext);
+        if (lifecycle) {
+            entity = instanceCreator.getInstance();
+            classModel.callLifecycleMethods(PreLoad.class, entity, null, mapper);
+            decodeProperties(reader, decoderContext, instanceCreator);
         } else {
-            EntityModel classModel = morphiaCodec.getEntityModel();
-            if (decoderContext.hasCheckedDiscriminator()) {
-                MorphiaInstanceCreator instanceCreator = getInstanceCreator(classModel);
-                decodeProperties(reader, decoderContext, instanceCreator);
-                return instanceCreator.getInstance();
-            } else {
-                entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
-            }
+            decodeProperties(reader, decoderContext, instanceCreator);
+            entity = instanceCreator.getInstance();
+        }
+        if (batch != null) {
+            batch.bind(mark, entity);
+        }
+        if (lifecycle) {
+            classModel.callLifecycleMethods(PostLoad.class, entity, null, mapper);
         }
 
         return entity;
@@ -63,6 +87,10 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
                     reader.readNull();
                 } else {
                     value = decoderContext.decodeWithChildContext(model.getCachedCodec(), reader);
+                    if (value instanceof Deferred) {
+                        ((Deferred) value).field(model);
+                        value = null;
+                    }
                 }
                 instanceCreator.set(value, model);
             } catch (BsonInvalidOperationException e) {
@@ -79,17 +107,42 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
                                     MorphiaInstanceCreator instanceCreator) {
         reader.readStartDocument();
         EntityModel classModel = morphiaCodec.getEntityModel();
+        FieldModel[] expected = classModel.getStorageOrder();
+        int next = 0;
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String name = reader.readName();
-            if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
+            if (next < expected.length && expected[next].getMappedName().equals(name)) {
+                decodeModel(reader, decoderContext, instanceCreator, expected[next++]);
+            } else if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
                 reader.readString();
             } else {
-                decodeModel(reader, decoderContext, instanceCreator, classModel.getField(name));
+                int index = findExpected(expected, next + 1, name);
+                if (index != -1) {
+                    next = index + 1;
+                    decodeModel(reader, decoderContext, instanceCreator, expected[index]);
+                } else {
+                    decodeModel(reader, decoderContext, instanceCreator, classModel.getField(name));
+                }
             }
         }
         reader.readEndDocument();
     }
 
+    /**
+     * Documents written by Morphia store their fields in the same order as the model so a field missing from the expected position is
+     * usually found shortly after it, e.g., when nulls and empties were skipped.  Only a few positions are scanned so documents in any
+     * other order fall back to the map lookup rather than scanning the remaining fields for each of their elements.
+     */
+    private static int findExpected(FieldModel[] expected, int next, String name) {
+        int end = Math.min(expected.length, next + MAX_SKIPPED);
+        for (int i = next; i < end; i++) {
+            if (expected[i].getMappedName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     @SuppressWarnings("unchecked")
     protected Codec<?> getCodecFromDocument(BsonReader reader, boolean useDiscriminator, String discriminatorKey,
                                             CodecRegistry registry, DiscriminatorLookup discriminatorLookup,
@@ -128,7 +181,12 @@ public class EntityDecoder implements org.bson.codecs.Decoder<Object> {
         Document document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
         morphiaCodec.getEntityModel().callLifecycleMethods(PreLoad.class, entity, document, morphiaCodec.getMapper());
 
+        ReferenceBatch batch = ReferenceBatch.current();
+        int mark = batch != null ? batch.mark() : 0;
         decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
+        if (batch != null) {
+            batch.bind(mark, entity);
+        }
 
         morphiaCodec.getEntityModel().callLifecycleMethods(PostLoad.class, entity, document, morphiaCodec.getMapper());
         return entity;
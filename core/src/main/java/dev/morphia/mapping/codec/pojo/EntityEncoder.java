@@ -2,6 +2,7 @@ package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -12,9 +13,12 @@ import org.bson.codecs.ObjectIdGenerator;
 import org.bson.types.ObjectId;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
-import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.value;
 
 /**
  * @since 2.0
@@ -31,13 +35,15 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
     @Override
     public void encode(BsonWriter writer, Object value, EncoderContext encoderContext) {
         EntityModel model = morphiaCodec.getEntityModel();
-        if (model.hasLifecycle(PostPersist.class)
-            || model.hasLifecycle(PrePersist.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
-
+        Mapper mapper = morphiaCodec.getMapper();
+        if (!hasLifecycle(model, mapper)) {
+            encodeEntity(writer, value, encoderContext);
+        } else if (needsDocument(model, mapper)) {
             encodeWithLifecycle(writer, value, encoderContext);
         } else {
+            model.callLifecycleMethods(PrePersist.class, value, null, mapper);
             encodeEntity(writer, value, encoderContext);
+            model.callLifecycleMethods(PostPersist.class, value, null, mapper);
         }
     }
 
@@ -54,27 +60,83 @@ class EntityEncoder implements org.bson.codecs.Encoder<Object> {
 
     @SuppressWarnings("unchecked")
     private void encodeEntity(BsonWriter writer, Object value, EncoderContext encoderContext) {
-        if (areEquivalentTypes(value.getClass(), morphiaCodec.getEntityModel().getType())) {
-            document(writer, () -> {
-
-                FieldModel idModel = morphiaCodec.getEntityModel().getIdField();
-                encodeIdProperty(writer, value, encoderContext, idModel);
-
-                if (morphiaCodec.getEntityModel().useDiscriminator()) {
-                    writer.writeString(morphiaCodec.getEntityModel().getDiscriminatorKey(),
-                        morphiaCodec.getEntityModel().getDiscriminator());
-                }
+        if (areEquivalentTypes(typeOf(value), morphiaCodec.getEntityModel().getType())) {
+            writer.writeStartDocument();
+            encodeProperties(writer, value, encoderContext, Collections.emptySet());
+            writer.writeEndDocument();
+        } else {
+            morphiaCodec.getRegistry().get((Class<? super Object>) value.getClass())
+                        .encode(writer, value, encoderContext);
+        }
+    }
 
-                for (FieldModel fieldModel : morphiaCodec.getEntityModel().getFields()) {
-                    if (fieldModel.equals(idModel)) {
-                        continue;
+    /**
+     * Writes the fields of the entity into the document currently open on the writer.
+     *
+     * @param writer         the writer
+     * @param value          the entity
+     * @param encoderContext the context
+     * @param skipped        the mapped names of the fields to leave out
+     */
+    void encodeFields(BsonWriter writer, Object value, EncoderContext encoderContext, Set<String> skipped) {
+        EntityModel model = morphiaCodec.getEntityModel();
+        Mapper mapper = morphiaCodec.getMapper();
+        boolean lifecycle = hasLifecycle(model, mapper);
+        if ((lifecycle && needsDocument(model, mapper)) || !areEquivalentTypes(typeOf(value), model.getType())) {
+            // the callbacks are handed the whole document so the entity can't be streamed field by field
+            DocumentWriter documentWriter = new DocumentWriter();
+            encode(documentWriter, value, encoderContext);
+            for (Entry<String, Object> entry : documentWriter.getDocument().entrySet()) {
+                if (!skipped.contains(entry.getKey())) {
+                    writer.writeName(entry.getKey());
+                    if (entry.getValue() == null) {
+                        writer.writeNull();
+                    } else {
+                        value(morphiaCodec.getMapper(), writer, entry.getValue(), encoderContext);
                     }
-                    encodeProperty(writer, value, encoderContext, fieldModel);
                 }
-            });
+            }
+        } else if (lifecycle) {
+            model.callLifecycleMethods(PrePersist.class, value, null, mapper);
+            encodeProperties(writer, value, encoderContext, skipped);
+            model.callLifecycleMethods(PostPersist.class, value, null, mapper);
         } else {
-            morphiaCodec.getRegistry().get((Class<? super Object>) value.getClass())
-                        .encode(writer, value, encoderContext);
+            encodeProperties(writer, value, encoderContext, skipped);
+        }
+    }
+
+    private static Class<?> typeOf(Object value) {
+        return value instanceof LazyEntity ? value.getClass().getSuperclass() : value.getClass();
+    }
+
+    private static boolean hasLifecycle(EntityModel model, Mapper mapper) {
+        return model.hasLifecycle(PrePersist.class, mapper) || model.hasLifecycle(PostPersist.class, mapper);
+    }
+
+    private static boolean needsDocument(EntityModel model, Mapper mapper) {
+        return model.needsDocument(PrePersist.class, mapper) || model.needsDocument(PostPersist.class, mapper);
+    }
+
+    private void encodeProperties(BsonWriter writer, Object value, EncoderContext encoderContext, Set<String> skipped) {
+        if (value instanceof LazyEntity) {
+            // the fields are read directly below so any still pending must be decoded first
+            ((LazyEntity) value).unwrap();
+        }
+        EntityModel model = morphiaCodec.getEntityModel();
+        FieldModel idModel = model.getIdField();
+        if (idModel != null && !skipped.contains(idModel.getMappedName())) {
+            encodeIdProperty(writer, value, encoderContext, idModel);
+        }
+
+        if (model.useDiscriminator()) {
+            writer.writeString(model.getDiscriminatorKey(), model.getDiscriminator());
+        }
+
+        for (FieldModel fieldModel : model.getPersistedFields()) {
+            if (!skipped.isEmpty() && skipped.contains(fieldModel.getMappedName())) {
+                continue;
+            }
+            encodeProperty(writer, value, encoderContext, fieldModel);
         }
     }
 
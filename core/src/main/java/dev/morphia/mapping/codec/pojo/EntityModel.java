@@ -11,6 +11,7 @@ import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Version;
+import dev.morphia.internal.PathTarget.Resolution;
 import dev.morphia.mapping.InstanceCreatorFactory;
 import dev.morphia.mapping.InstanceCreatorFactoryImpl;
 import dev.morphia.mapping.Mapper;
@@ -28,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -60,7 +62,16 @@ public class EntityModel {
     private final EntityModel superClass;
     private final FieldModel idField;
     private final FieldModel versionField;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private final FieldModel[] storageOrder;
+    private final FieldModel[] persistedFields;
+    private final Map<String, Resolution> validatedPaths = new ConcurrentHashMap<>();
+    private final Map<String, Resolution> unvalidatedPaths = new ConcurrentHashMap<>();
+    private volatile Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    /**
+     * Bits, by position in LIFECYCLE_ANNOTATIONS, for the events with callbacks or interceptors followed by those needing the document.
+     * -1 until computed for the mapper's current interceptors.
+     */
+    private volatile int lifecycleFlags = -1;
     private MorphiaInstanceCreator instanceCreator;
 
     /**
@@ -94,6 +105,10 @@ public class EntityModel {
             }
             fieldModelsByField.putIfAbsent(model.getName(), model);
         });
+        int index = 0;
+        for (FieldModel model : fieldModelsByField.values()) {
+            model.index(index++);
+        }
 
         this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
@@ -106,6 +121,8 @@ public class EntityModel {
 
         idField = getFields(Id.class).stream().findFirst().orElse(null);
         versionField = getFields(Version.class).stream().findFirst().orElse(null);
+        storageOrder = buildStorageOrder();
+        persistedFields = buildPersistedFields();
     }
 
     /**
@@ -113,7 +130,7 @@ public class EntityModel {
      *
      * @param event    the event to run
      * @param entity   the entity to use
-     * @param document the document used in persistence
+     * @param document the document used in persistence or null if none of the callbacks need it
      * @param mapper   the mapper to use
      */
     public void callLifecycleMethods(Class<? extends Annotation> event, Object entity, Document document,
@@ -195,7 +212,8 @@ public class EntityModel {
      * @return the named FieldModel or null if it does not exist
      */
     public FieldModel getField(String name) {
-        return fieldModelsByMappedName.getOrDefault(name, fieldModelsByField.get(name));
+        FieldModel model = fieldModelsByMappedName.get(name);
+        return model != null ? model : fieldModelsByField.get(name);
     }
 
     /**
@@ -249,19 +267,26 @@ public class EntityModel {
      * @return the lifecycle event methods
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
-        if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
-
-            final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
-            if (entityLisAnn != null && entityLisAnn.value().length != 0) {
-                for (Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
+        Map<Class<? extends Annotation>, List<ClassMethodPair>> methods = lifecycleMethods;
+        if (methods == null) {
+            synchronized (this) {
+                methods = lifecycleMethods;
+                if (methods == null) {
+                    methods = new HashMap<>();
+
+                    final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
+                    if (entityLisAnn != null && entityLisAnn.value().length != 0) {
+                        for (Class<?> aClass : entityLisAnn.value()) {
+                            mapEvent(methods, aClass, true);
+                        }
+                    }
+
+                    mapEvent(methods, getType(), false);
+                    lifecycleMethods = methods;
                 }
             }
-
-            mapEvent(getType(), false);
         }
-        return lifecycleMethods;
+        return methods;
     }
 
     /**
@@ -271,6 +296,25 @@ public class EntityModel {
         return type.getSimpleName();
     }
 
+    /**
+     * @param validated true for the paths resolved with name validation enabled
+     * @return the cache of paths resolved against this model
+     * @morphia.internal
+     */
+    public Map<String, Resolution> getResolvedPaths(boolean validated) {
+        return validated ? validatedPaths : unvalidatedPaths;
+    }
+
+    /**
+     * Discards the resolved paths cached for this model.  Paths can resolve differently once new types have been mapped.
+     *
+     * @morphia.internal
+     */
+    public void clearResolvedPaths() {
+        validatedPaths.clear();
+        unvalidatedPaths.clear();
+    }
+
     /**
      * Get the subtypes of this model
      *
@@ -309,6 +353,38 @@ public class EntityModel {
         return getLifecycleMethods().containsKey(type);
     }
 
+    /**
+     * @param type   the lifecycle event type
+     * @param mapper the mapper holding the global interceptors
+     * @return true if that event has been configured or any global interceptor applies to this entity
+     * @morphia.internal
+     * @since 2.2
+     */
+    public boolean hasLifecycle(Class<? extends Annotation> type, Mapper mapper) {
+        return (lifecycleFlags(mapper) & (1 << LIFECYCLE_ANNOTATIONS.indexOf(type))) != 0;
+    }
+
+    /**
+     * @param type   the lifecycle event type
+     * @param mapper the mapper holding the global interceptors
+     * @return true if any callback for that event needs the Document form of the entity
+     * @morphia.internal
+     * @since 2.2
+     */
+    public boolean needsDocument(Class<? extends Annotation> type, Mapper mapper) {
+        return (lifecycleFlags(mapper) & (1 << (LIFECYCLE_ANNOTATIONS.indexOf(type) + LIFECYCLE_ANNOTATIONS.size()))) != 0;
+    }
+
+    /**
+     * Discards the lifecycle flags computed for this model so they are recomputed against the mapper's current interceptors.
+     *
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void resetLifecycleFlags() {
+        lifecycleFlags = -1;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getAnnotations(), fieldModelsByField, fieldModelsByMappedName, datastore, creatorFactory, discriminatorEnabled,
@@ -362,6 +438,20 @@ public class EntityModel {
         return getType().isInterface();
     }
 
+    /**
+     * @return the fields in the order the encoder writes them:  the id field first followed by the rest in declaration order
+     */
+    FieldModel[] getStorageOrder() {
+        return storageOrder;
+    }
+
+    /**
+     * @return the fields, other than the ID, which may be written when encoding an entity, in storage order
+     */
+    FieldModel[] getPersistedFields() {
+        return persistedFields;
+    }
+
     protected boolean useDiscriminator() {
         return discriminatorEnabled;
     }
@@ -376,6 +466,9 @@ public class EntityModel {
     private void callGlobalInterceptors(Class<? extends Annotation> event, Object entity, Document document,
                                         Mapper mapper) {
         for (EntityInterceptor ei : mapper.getInterceptors()) {
+            if (!ei.appliesTo(getType())) {
+                continue;
+            }
             Sofia.logCallingInterceptorMethod(event.getSimpleName(), ei);
 
             if (event.equals(PreLoad.class)) {
@@ -390,6 +483,29 @@ public class EntityModel {
         }
     }
 
+    private FieldModel[] buildStorageOrder() {
+        List<FieldModel> order = new ArrayList<>();
+        if (idField != null) {
+            order.add(idField);
+        }
+        for (FieldModel model : fieldModelsByField.values()) {
+            if (model != idField) {
+                order.add(model);
+            }
+        }
+        return order.toArray(new FieldModel[0]);
+    }
+
+    private FieldModel[] buildPersistedFields() {
+        List<FieldModel> persisted = new ArrayList<>();
+        for (FieldModel model : storageOrder) {
+            if (model != idField && model.isPersisted()) {
+                persisted.add(model);
+            }
+        }
+        return persisted.toArray(new FieldModel[0]);
+    }
+
     private List<Method> getDeclaredAndInheritedMethods(Class<?> type) {
         final List<Method> methods = new ArrayList<>();
         if ((type == null) || (type == Object.class)) {
@@ -399,23 +515,79 @@ public class EntityModel {
         final Class<?> parent = type.getSuperclass();
         methods.addAll(getDeclaredAndInheritedMethods(parent));
 
-        for (Method m : type.getDeclaredMethods()) {
-            if (!Modifier.isStatic(m.getModifiers())) {
-                methods.add(m);
-            }
-        }
+        methods.addAll(List.of(type.getDeclaredMethods()));
 
         return methods;
     }
 
-    private void mapEvent(Class<?> type, boolean entityListener) {
+    private void mapEvent(Map<Class<? extends Annotation>, List<ClassMethodPair>> methods, Class<?> type,
+                          boolean entityListener) {
+        Object listener = entityListener ? createListener(type) : null;
         for (Method method : getDeclaredAndInheritedMethods(type)) {
             for (Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
-                    lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(datastore, method, entityListener ? type : null, annotationClass));
+                    methods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
+                           .add(new ClassMethodPair(datastore, method, listener, annotationClass));
+                }
+            }
+        }
+    }
+
+    private int lifecycleFlags(Mapper mapper) {
+        int flags = lifecycleFlags;
+        if (flags == -1) {
+            flags = 0;
+            for (int i = 0; i < LIFECYCLE_ANNOTATIONS.size(); i++) {
+                Class<? extends Annotation> event = LIFECYCLE_ANNOTATIONS.get(i);
+                if (hasCallbacks(event, mapper)) {
+                    flags |= 1 << i;
+                }
+                if (callbacksNeedDocument(event, mapper)) {
+                    flags |= 1 << (i + LIFECYCLE_ANNOTATIONS.size());
                 }
             }
+            lifecycleFlags = flags;
+        }
+        return flags;
+    }
+
+    private boolean hasCallbacks(Class<? extends Annotation> event, Mapper mapper) {
+        if (hasLifecycle(event)) {
+            return true;
+        }
+        for (EntityInterceptor ei : mapper.getInterceptors()) {
+            if (ei.appliesTo(getType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean callbacksNeedDocument(Class<? extends Annotation> event, Mapper mapper) {
+        final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(event);
+        if (methodPairs != null) {
+            for (ClassMethodPair cm : methodPairs) {
+                if (cm.usesDocument()) {
+                    return true;
+                }
+            }
+        }
+        for (EntityInterceptor ei : mapper.getInterceptors()) {
+            if (ei.appliesTo(getType()) && ei.requiresDocument()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the single instance of an entity listener shared by all of its callbacks.
+     */
+    private static Object createListener(Class<?> type) {
+        try {
+            return type.getDeclaredConstructor(new Class[0]).newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
         }
     }
 }
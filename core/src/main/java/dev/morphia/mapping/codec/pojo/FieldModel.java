@@ -21,8 +21,8 @@ import dev.morphia.Key;
 import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
-import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.Conversions;
+import dev.morphia.mapping.codec.MorphiaPropertySerialization;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
@@ -64,6 +64,7 @@ public final class FieldModel {
     private final EntityModel entityModel;
     private volatile Codec<? super Object> cachedCodec;
     private Class<?> normalizedType;
+    private int index = -1;
 
     FieldModel(FieldModelBuilder builder) {
         entityModel = builder.entityModel();
@@ -185,6 +186,15 @@ public final class FieldModel {
         return String.format("%s#%s", field.getDeclaringClass().getName(), field.getName());
     }
 
+    /**
+     * @return the position of the field in {@link EntityModel#getFields()} or -1 if the field is hidden by another of the same name
+     * @morphia.internal
+     * @since 2.2
+     */
+    public int getIndex() {
+        return index;
+    }
+
     /**
      * @return the name of the field's (key)name for mongodb, in order of loading.
      */
@@ -257,15 +267,16 @@ public final class FieldModel {
      * @return the value stored in the java field
      */
     public Object getValue(Object instance) {
-        try {
-            Object target = instance;
-            if (target instanceof MorphiaProxy) {
-                target = ((MorphiaProxy) instance).unwrap();
+        Object target = instance;
+        if (target instanceof LazyEntity) {
+            LazyState state = ((LazyEntity) target).getMorphiaLazyState();
+            if (state != null) {
+                state.load(target, this);
             }
-            return getField().get(target);
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(e.getMessage(), e);
+        } else if (target instanceof MorphiaProxy) {
+            target = ((MorphiaProxy) instance).unwrap();
         }
+        return accessor.get(target);
     }
 
     /**
@@ -375,12 +386,13 @@ public final class FieldModel {
      * @param value    the value to set
      */
     public void setValue(Object instance, Object value) {
-        try {
-            final Field field = getField();
-            field.set(instance, Conversions.convert(value, field.getType()));
-        } catch (IllegalAccessException e) {
-            throw new MappingException(e.getMessage(), e);
+        if (instance instanceof LazyEntity) {
+            LazyState state = ((LazyEntity) instance).getMorphiaLazyState();
+            if (state != null) {
+                state.loaded(this);
+            }
         }
+        accessor.set(instance, Conversions.convert(value, getField().getType()));
     }
 
     /**
@@ -393,6 +405,13 @@ public final class FieldModel {
         return serialization.shouldSerialize(value);
     }
 
+    /**
+     * @return false if this field is never written whatever its value
+     */
+    boolean isPersisted() {
+        return !(serialization instanceof MorphiaPropertySerialization) || !((MorphiaPropertySerialization) serialization).isExcluded();
+    }
+
     private boolean isCollection() {
         return Collection.class.isAssignableFrom(getTypeData().getType());
     }
@@ -411,8 +430,18 @@ public final class FieldModel {
         return null;
     }
 
-    void cachedCodec(Codec<? super Object> codec) {
-        this.cachedCodec = codec;
+    /**
+     * Caches the codec built for this field unless one has been already.  Codecs of an entity racing to be built on first use each
+     * build their field codecs but only the first published is ever used.
+     */
+    synchronized void cachedCodec(Codec<? super Object> codec) {
+        if (cachedCodec == null) {
+            cachedCodec = codec;
+        }
+    }
+
+    void index(int index) {
+        this.index = index;
     }
 
 }
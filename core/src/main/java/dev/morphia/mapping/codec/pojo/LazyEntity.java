@@ -0,0 +1,38 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+
+/**
+ * Implemented by the generated subclasses of {@link dev.morphia.annotations.experimental.LazyFields} types.  Unwrapping such an entity
+ * decodes all of its fields and returns the entity itself.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public interface LazyEntity extends MorphiaProxy {
+    /**
+     * @return the state of the entity or null if it is still being constructed
+     */
+    LazyState getMorphiaLazyState();
+
+    /**
+     * @param state the state of the entity
+     */
+    void setMorphiaLazyState(LazyState state);
+
+    @Override
+    default boolean isFetched() {
+        LazyState state = getMorphiaLazyState();
+        return state == null || state.isLoaded();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    default <T> T unwrap() {
+        LazyState state = getMorphiaLazyState();
+        if (state != null) {
+            state.loadAll(this);
+        }
+        return (T) this;
+    }
+}
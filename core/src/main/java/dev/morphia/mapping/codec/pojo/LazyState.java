@@ -0,0 +1,122 @@
+package dev.morphia.mapping.codec.pojo;
+
+import net.bytebuddy.implementation.bind.annotation.Origin;
+import net.bytebuddy.implementation.bind.annotation.This;
+import org.bson.RawBsonDocument;
+
+import java.lang.reflect.Method;
+import java.util.BitSet;
+
+/**
+ * The state of a lazily decoded entity: the document it was read from and the fields yet to be decoded from it.  The document is
+ * released once every field has been decoded.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public final class LazyState {
+    private final LazyType type;
+    private final BitSet pending;
+    private RawBsonDocument document;
+
+    LazyState(LazyType type, RawBsonDocument document) {
+        this.type = type;
+        this.document = document;
+        pending = new BitSet(type.size());
+        pending.set(0, type.size());
+    }
+
+    /**
+     * @return true if every field has been decoded
+     */
+    public synchronized boolean isLoaded() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Decodes a field if it has not been already
+     *
+     * @param entity the entity
+     * @param field  the field
+     */
+    public synchronized void load(Object entity, FieldModel field) {
+        int index = type.indexOf(field);
+        if (index != -1 && pending.get(index)) {
+            BitSet wanted = new BitSet();
+            wanted.set(index);
+            load(entity, wanted);
+        }
+    }
+
+    /**
+     * Decodes every field not decoded yet
+     *
+     * @param entity the entity
+     */
+    public synchronized void loadAll(Object entity) {
+        if (!pending.isEmpty()) {
+            load(entity, (BitSet) pending.clone());
+        }
+    }
+
+    /**
+     * Marks a field as set by the application so that it is never decoded over
+     *
+     * @param field the field
+     */
+    public synchronized void loaded(FieldModel field) {
+        int index = type.indexOf(field);
+        if (index != -1) {
+            pending.clear(index);
+            release();
+        }
+    }
+
+    synchronized void load(Object entity, BitSet wanted) {
+        type.decode(document, entity, wanted);
+        pending.andNot(wanted);
+        release();
+    }
+
+    private void before(Object entity, Method method) {
+        FieldModel getter = type.getter(method);
+        FieldModel setter = getter == null ? type.setter(method) : null;
+        if (getter != null) {
+            load(entity, getter);
+        } else if (setter != null) {
+            loaded(setter);
+        } else {
+            loadAll(entity);
+        }
+    }
+
+    private void release() {
+        if (pending.isEmpty()) {
+            document = null;
+        }
+    }
+
+    /**
+     * Called by the generated subclasses before each of their methods runs.
+     *
+     * @morphia.internal
+     */
+    public static final class Interceptor {
+        private Interceptor() {
+        }
+
+        /**
+         * Decodes the fields a method is about to use
+         *
+         * @param entity the entity
+         * @param method the method called
+         */
+        public static void intercept(@This Object entity, @Origin Method method) {
+            LazyState state = ((LazyEntity) entity).getMorphiaLazyState();
+            // the state is only missing while the entity's constructor runs
+            if (state != null) {
+                state.before(entity, method);
+            }
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PreLoad;
+import dev.morphia.annotations.experimental.LazyFields;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.NoArgCreator;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.experimental.ReferenceBatch;
+import dev.morphia.sofia.Sofia;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodDelegation;
+import net.bytebuddy.implementation.SuperMethodCall;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.Handle;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.utility.OpenedClassReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static net.bytebuddy.matcher.ElementMatchers.isDeclaredBy;
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static net.bytebuddy.matcher.ElementMatchers.not;
+
+/**
+ * Decodes the instances of a {@link LazyFields} type.  The subclass instantiated is generated once per type, into the type's own
+ * package so that package private methods are intercepted too.
+ *
+ * @see LazyFields
+ */
+final class LazyType {
+    private static final String STATE = "$$lazyState";
+    private static final RawBsonDocumentCodec RAW_CODEC = new RawBsonDocumentCodec();
+    private static final ClassValue<Constructor<?>> SUBCLASSES = new ClassValue<>() {
+        @Override
+        protected Constructor<?> computeValue(Class<?> type) {
+            return generate(type);
+        }
+    };
+
+    private final MorphiaCodec<?> codec;
+    private final Constructor<?> constructor;
+    private final Map<FieldModel, Integer> indexes = new IdentityHashMap<>();
+    private final Map<Method, FieldModel> getters = new HashMap<>();
+    private final Map<Method, FieldModel> setters = new HashMap<>();
+    private final BitSet eager = new BitSet();
+
+    LazyType(MorphiaCodec<?> codec) {
+        this.codec = codec;
+        EntityModel model = codec.getEntityModel();
+        constructor = SUBCLASSES.get(model.getType());
+        List<FieldModel> fields = model.getFields();
+        Map<String, FieldModel> byField = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            FieldModel field = fields.get(i);
+            indexes.put(field, i);
+            byField.put(key(field.getField()), field);
+            if (field == model.getIdField() || field == model.getVersionField()) {
+                eager.set(i);
+            }
+        }
+        Set<String> seen = new HashSet<>();
+        for (Class<?> type = model.getType(); type != null && type != Object.class; type = type.getSuperclass()) {
+            findAccessors(type, byField, seen);
+        }
+    }
+
+    /**
+     * Checks whether the instances of a type can be decoded lazily
+     *
+     * @param model  the model of the type
+     * @param mapper the mapper
+     * @return true if the type asks for, and allows, lazy decoding
+     */
+    static boolean isLazy(EntityModel model, Mapper mapper) {
+        Class<?> type = model.getType();
+        int modifiers = type.getModifiers();
+        if (model.getAnnotation(LazyFields.class) == null
+            || Modifier.isFinal(modifiers) || Modifier.isAbstract(modifiers)
+            || type.isMemberClass() && !Modifier.isStatic(modifiers)
+            || model.hasLifecycle(PreLoad.class, mapper) || model.hasLifecycle(PostLoad.class, mapper)
+            || !(model.getInstanceCreator() instanceof NoArgCreator)) {
+            return false;
+        }
+        try {
+            return !Modifier.isPrivate(type.getDeclaredConstructor().getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static String key(Field field) {
+        return Type.getInternalName(field.getDeclaringClass()) + "." + field.getName();
+    }
+
+    /**
+     * Finds the methods of a type which only return or assign one of the mapped fields.  Only those can decode, or skip, a single field.
+     * Any other method may read any field so calling it decodes them all.  A method overridden by a subtype is judged by the override.
+     */
+    private void findAccessors(Class<?> type, Map<String, FieldModel> fields, Set<String> seen) {
+        Map<String, Method> methods = new HashMap<>();
+        for (Method method : type.getDeclaredMethods()) {
+            methods.put(method.getName() + Type.getMethodDescriptor(method), method);
+        }
+        ClassReader reader;
+        try {
+            reader = OpenedClassReader.of(ClassFileLocator.ForClassLoader.read(type));
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            // without the class file no method is known to be a plain accessor
+            seen.addAll(methods.keySet());
+            return;
+        }
+        reader.accept(new ClassVisitor(OpenedClassReader.ASM_API) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+                String key = name + descriptor;
+                if (!seen.add(key) || (access & (Opcodes.ACC_STATIC | Opcodes.ACC_ABSTRACT)) != 0) {
+                    return null;
+                }
+                return new AccessorVisitor(descriptor) {
+                    @Override
+                    void getter(String field) {
+                        add(getters, methods.get(key), fields.get(field));
+                    }
+
+                    @Override
+                    void setter(String field) {
+                        add(setters, methods.get(key), fields.get(field));
+                    }
+                };
+            }
+        }, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    }
+
+    private static void add(Map<Method, FieldModel> accessors, Method method, FieldModel field) {
+        if (method != null && field != null) {
+            accessors.put(method, field);
+        }
+    }
+
+    private static Constructor<?> generate(Class<?> type) {
+        try {
+            Class<?> subclass = new ByteBuddy()
+                                    .subclass(type)
+                                    .implement(LazyEntity.class)
+                                    .name(type.getName() + "$$Lazy")
+                                    .defineField(STATE, LazyState.class, Visibility.PRIVATE)
+
+                                    .method(not(isDeclaredBy(Object.class))
+                                                .and(not(isDeclaredBy(LazyEntity.class)))
+                                                .and(not(isDeclaredBy(MorphiaProxy.class))))
+                                    .intercept(MethodDelegation.to(LazyState.Interceptor.class).andThen(SuperMethodCall.INSTANCE))
+
+                                    .method(named("getMorphiaLazyState").or(named("setMorphiaLazyState")))
+                                    .intercept(FieldAccessor.ofField(STATE))
+
+                                    .make()
+                                    .load(type.getClassLoader(),
+                                        ClassLoadingStrategy.UsingLookup.of(MethodHandles.privateLookupIn(type, MethodHandles.lookup())))
+                                    .getLoaded();
+            Constructor<?> constructor = subclass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (ReflectiveOperationException | IllegalArgumentException | IllegalStateException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates an entity backed by the document read
+     *
+     * @param reader         the reader
+     * @param decoderContext the context
+     * @return the entity with only its id and version decoded
+     */
+    Object decode(BsonReader reader, DecoderContext decoderContext) {
+        RawBsonDocument document = RAW_CODEC.decode(reader, decoderContext);
+        Object entity;
+        try {
+            entity = constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(Sofia.instantiationProblem(codec.getEntityModel().getType().getName(), e.getMessage()), e);
+        }
+        LazyState state = new LazyState(this, document);
+        ((LazyEntity) entity).setMorphiaLazyState(state);
+        state.load(entity, eager);
+        return entity;
+    }
+
+    /**
+     * Decodes some of the fields stored in a document
+     *
+     * @param document the document
+     * @param entity   the entity to decode in to
+     * @param wanted   the indexes of the fields to decode
+     */
+    void decode(RawBsonDocument document, Object entity, BitSet wanted) {
+        EntityModel model = codec.getEntityModel();
+        EntityDecoder decoder = codec.getDecoder();
+        DecoderContext decoderContext = DecoderContext.builder().build();
+        MorphiaInstanceCreator instanceCreator = new MorphiaInstanceCreator() {
+            @Override
+            public Object getInstance() {
+                return entity;
+            }
+
+            @Override
+            public void set(Object value, FieldModel model) {
+                model.getAccessor().set(entity, value);
+            }
+        };
+
+        ReferenceBatch batch = ReferenceBatch.current();
+        int mark = batch != null ? batch.mark() : 0;
+        try (BsonReader reader = document.asBsonReader()) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                FieldModel field = model.getField(reader.readName());
+                int index = field != null ? indexOf(field) : -1;
+                if (index != -1 && wanted.get(index)) {
+                    decoder.decodeModel(reader, decoderContext, instanceCreator, field);
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        if (batch != null) {
+            batch.bind(mark, entity);
+        }
+    }
+
+    FieldModel getter(Method method) {
+        return getters.get(method);
+    }
+
+    int indexOf(FieldModel field) {
+        Integer index = indexes.get(field);
+        return index != null ? index : -1;
+    }
+
+    FieldModel setter(Method method) {
+        return setters.get(method);
+    }
+
+    int size() {
+        return indexes.size();
+    }
+
+    /**
+     * Recognizes the bodies {@code return this.field;} and {@code this.field = value;}
+     */
+    private abstract static class AccessorVisitor extends MethodVisitor {
+        private final int parameters;
+        private final List<Integer> opcodes = new ArrayList<>();
+        private String field;
+
+        AccessorVisitor(String descriptor) {
+            super(OpenedClassReader.ASM_API);
+            parameters = Type.getArgumentTypes(descriptor).length;
+        }
+
+        @Override
+        public void visitEnd() {
+            if (opcodes.size() == 3 && parameters == 0 && opcodes.get(0) == Opcodes.ALOAD && opcodes.get(1) == Opcodes.GETFIELD
+                && opcodes.get(2) >= Opcodes.IRETURN && opcodes.get(2) <= Opcodes.ARETURN) {
+                getter(field);
+            } else if (opcodes.size() == 4 && parameters == 1 && opcodes.get(0) == Opcodes.ALOAD
+                       && opcodes.get(1) >= Opcodes.ILOAD && opcodes.get(1) <= Opcodes.ALOAD
+                       && opcodes.get(2) == Opcodes.PUTFIELD && opcodes.get(3) == Opcodes.RETURN) {
+                setter(field);
+            }
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            opcodes.add(opcode);
+            field = owner + "." + name;
+        }
+
+        @Override
+        public void visitIincInsn(int var, int increment) {
+            opcodes.add(Opcodes.IINC);
+        }
+
+        @Override
+        public void visitInsn(int opcode) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitIntInsn(int opcode, int operand) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitInvokeDynamicInsn(String name, String descriptor, Handle bootstrap, Object... arguments) {
+            opcodes.add(Opcodes.INVOKEDYNAMIC);
+        }
+
+        @Override
+        public void visitJumpInsn(int opcode, Label label) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitLdcInsn(Object value) {
+            opcodes.add(Opcodes.LDC);
+        }
+
+        @Override
+        public void visitLookupSwitchInsn(Label dflt, int[] keys, Label[] labels) {
+            opcodes.add(Opcodes.LOOKUPSWITCH);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitMultiANewArrayInsn(String descriptor, int dimensions) {
+            opcodes.add(Opcodes.MULTIANEWARRAY);
+        }
+
+        @Override
+        public void visitTableSwitchInsn(int min, int max, Label dflt, Label... labels) {
+            opcodes.add(Opcodes.TABLESWITCH);
+        }
+
+        @Override
+        public void visitTypeInsn(int opcode, String type) {
+            opcodes.add(opcode);
+        }
+
+        @Override
+        public void visitVarInsn(int opcode, int var) {
+            // only the receiver and the first parameter may be loaded
+            opcodes.add(opcodes.isEmpty() ? (var == 0 ? opcode : -1) : (var == 1 ? opcode : -1));
+        }
+
+        abstract void getter(String field);
+
+        abstract void setter(String field);
+    }
+}
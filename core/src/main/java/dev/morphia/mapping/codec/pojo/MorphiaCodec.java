@@ -1,12 +1,16 @@
 package dev.morphia.mapping.codec.pojo;
 
 import dev.morphia.Datastore;
+import dev.morphia.mapping.ChangeTracker;
 import dev.morphia.mapping.DiscriminatorLookup;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.PropertyCodecRegistryImpl;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonReader;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
+import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Codec;
 import org.bson.codecs.CollectibleCodec;
 import org.bson.codecs.DecoderContext;
@@ -17,6 +21,7 @@ import org.bson.codecs.pojo.PropertyCodecRegistry;
 import org.bson.types.ObjectId;
 
 import java.util.List;
+import java.util.Set;
 
 import static dev.morphia.mapping.codec.Conversions.convert;
 import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
@@ -31,6 +36,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
  */
 @SuppressWarnings("unchecked")
 public class MorphiaCodec<T> implements CollectibleCodec<T> {
+    private static final BsonDocumentCodec STATE_CODEC = new BsonDocumentCodec();
     private final FieldModel idField;
     private final Mapper mapper;
     private final EntityModel entityModel;
@@ -38,6 +44,8 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
     private final PropertyCodecRegistry propertyCodecRegistry;
     private final DiscriminatorLookup discriminatorLookup;
     private final EntityEncoder encoder = new EntityEncoder(this);
+    private final boolean lazy;
+    private LazyType lazyType;
 
     /**
      * Creates a new codec
@@ -59,10 +67,20 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         this.propertyCodecRegistry = new PropertyCodecRegistryImpl(this, registry, propertyCodecProviders);
         idField = model.getIdField();
         specializePropertyCodecs();
+        lazy = LazyType.isLazy(model, mapper);
     }
 
     @Override
     public T decode(BsonReader reader, DecoderContext decoderContext) {
+        ChangeTracker tracker = mapper.getChangeTracker();
+        // the discriminator check marks the nested decode of a subtype which the outer call is already tracking
+        if (tracker != null && idField != null && entityModel.getEntityAnnotation() != null
+            && !decoderContext.hasCheckedDiscriminator()) {
+            BsonDocument state = STATE_CODEC.decode(reader, decoderContext);
+            T entity = (T) getDecoder().decode(new BsonDocumentReader(state), decoderContext);
+            tracker.track(entity, state);
+            return entity;
+        }
         return (T) getDecoder().decode(reader, decoderContext);
     }
 
@@ -87,6 +105,21 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         encoder.encode(writer, value, encoderContext);
     }
 
+    /**
+     * Writes the fields of an entity into the document currently open on the writer rather than as a document of their own.  This
+     * lets update statements embed an entity's fields without first building a separate document for it.
+     *
+     * @param writer         the writer
+     * @param value          the entity
+     * @param encoderContext the context
+     * @param skipped        the mapped names of the fields to leave out
+     * @morphia.internal
+     * @since 2.2
+     */
+    public void encodeFields(BsonWriter writer, Object value, EncoderContext encoderContext, Set<String> skipped) {
+        encoder.encodeFields(writer, value, encoderContext, skipped);
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public Class getEncoderClass() {
@@ -132,6 +165,16 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return mapper;
     }
 
+    /**
+     * @return the lazy decoding of the entity type or null if it is decoded eagerly
+     */
+    LazyType getLazyType() {
+        if (lazy && lazyType == null) {
+            lazyType = new LazyType(this);
+        }
+        return lazyType;
+    }
+
     DiscriminatorLookup getDiscriminatorLookup() {
         return discriminatorLookup;
     }
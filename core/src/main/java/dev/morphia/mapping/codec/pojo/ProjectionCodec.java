@@ -0,0 +1,281 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.internal.Records;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonReader;
+import org.bson.BsonReaderMark;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.StringJoiner;
+import java.util.function.Function;
+
+import static dev.morphia.mapping.codec.Conversions.convert;
+
+/**
+ * Decodes documents read with a projection in to a type other than the entity's: an interface, whose getters are backed by the values
+ * read, a record, or a class with a no-arg constructor whose fields are set.  Each property of the type is matched by name to a mapped
+ * field of the entity and only those fields are read from the server and decoded, with the codecs of the entity's fields.
+ *
+ * @param <R> the projected type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ProjectionCodec<R> implements Codec<R> {
+    private final Mapper mapper;
+    private final Class<R> type;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final List<FieldModel> fields = new ArrayList<>();
+    private final List<Class<?>> types = new ArrayList<>();
+    private final List<Object> defaults = new ArrayList<>();
+    private final Function<Object[], R> instantiator;
+
+    /**
+     * Creates a codec
+     *
+     * @param mapper the mapper
+     * @param model  the model of the entity queried
+     * @param type   the projected type
+     */
+    public ProjectionCodec(Mapper mapper, EntityModel model, Class<R> type) {
+        this.mapper = mapper;
+        this.type = type;
+        if (type.isInterface()) {
+            instantiator = forInterface(model);
+        } else if (Records.isRecord(type)) {
+            instantiator = forRecord(model);
+        } else {
+            instantiator = forClass(model);
+        }
+        if (fields.isEmpty()) {
+            throw new MappingException(Sofia.projectionTypeNotSupported(type.getName()));
+        }
+    }
+
+    @Override
+    public R decode(BsonReader reader, DecoderContext decoderContext) {
+        Object[] values = new Object[fields.size()];
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Integer index = indexes.get(reader.readName());
+            if (index != null) {
+                values[index] = decodeValue(reader, decoderContext, index);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                values[i] = defaults.get(i);
+            }
+        }
+        return instantiator.apply(values);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, R value, EncoderContext encoderContext) {
+        throw new UnsupportedOperationException(Sofia.decodingOnly());
+    }
+
+    @Override
+    public Class<R> getEncoderClass() {
+        return type;
+    }
+
+    /**
+     * @return the mapped names of the fields to read
+     */
+    public String[] getFields() {
+        return fields.stream().map(FieldModel::getMappedName).toArray(String[]::new);
+    }
+
+    /**
+     * @return true if the projected type reads the id
+     */
+    public boolean includesId() {
+        return indexes.containsKey("_id");
+    }
+
+    private static String propertyName(Method method) {
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        } else if (name.startsWith("is") && name.length() > 2
+                   && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        return name;
+    }
+
+    private void add(EntityModel model, String name, Class<?> propertyType) {
+        FieldModel field = model.getField(name);
+        if (field == null) {
+            throw new MappingException(Sofia.projectionNotMapped(name, type.getName(), model.getType().getName()));
+        }
+        indexes.put(field.getMappedName(), fields.size());
+        fields.add(field);
+        // primitives can't be left null so take their default value and are checked against their boxed type
+        Object defaultValue = propertyType.isPrimitive() ? Array.get(Array.newInstance(propertyType, 1), 0) : null;
+        defaults.add(defaultValue);
+        types.add(defaultValue != null ? defaultValue.getClass() : propertyType);
+    }
+
+    private Object decodeValue(BsonReader reader, DecoderContext decoderContext, int index) {
+        FieldModel field = fields.get(index);
+        if (reader.getCurrentBsonType() == BsonType.NULL) {
+            reader.readNull();
+            return null;
+        }
+        BsonReaderMark mark = reader.getMark();
+        Object value;
+        try {
+            value = decoderContext.decodeWithChildContext(field.getCachedCodec(), reader);
+        } catch (BsonInvalidOperationException e) {
+            mark.reset();
+            value = mapper.getCodecRegistry().get(Object.class).decode(reader, decoderContext);
+        }
+        Class<?> target = types.get(index);
+        return value == null || target.isInstance(value) ? value : convert(value, target);
+    }
+
+    private Function<Object[], R> forClass(EntityModel model) {
+        Constructor<R> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new MappingException(Sofia.projectionTypeNotSupported(type.getName()), e);
+        }
+        List<Field> targets = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    add(model, field.getName(), field.getType());
+                    targets.add(field);
+                }
+            }
+        }
+        return values -> {
+            try {
+                R instance = constructor.newInstance();
+                for (int i = 0; i < values.length; i++) {
+                    targets.get(i).set(instance, values[i]);
+                }
+                return instance;
+            } catch (ReflectiveOperationException e) {
+                throw new MappingException(Sofia.instantiationProblem(type.getName(), e.getMessage()), e);
+            }
+        };
+    }
+
+    private Function<Object[], R> forInterface(EntityModel model) {
+        Map<Method, Integer> getters = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (!method.isDefault() && !Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0
+                && !method.getName().equals("hashCode") && !method.getName().equals("toString")) {
+                getters.put(method, fields.size());
+                add(model, propertyName(method), method.getReturnType());
+            }
+        }
+        ClassLoader loader = type.getClassLoader();
+        Class<?>[] interfaces = {type};
+        return values -> type.cast(Proxy.newProxyInstance(loader, interfaces, new ProjectionHandler(type, getters, values)));
+    }
+
+    private Function<Object[], R> forRecord(EntityModel model) {
+        String[] names = Records.componentNames(type);
+        Class<?>[] parameters = Records.componentTypes(type);
+        for (int i = 0; i < names.length; i++) {
+            add(model, names[i], parameters[i]);
+        }
+        try {
+            Constructor<R> constructor = type.getDeclaredConstructor(parameters);
+            constructor.setAccessible(true);
+            return values -> {
+                try {
+                    return constructor.newInstance(values);
+                } catch (ReflectiveOperationException e) {
+                    throw new MappingException(Sofia.instantiationProblem(type.getName(), e.getMessage()), e);
+                }
+            };
+        } catch (NoSuchMethodException e) {
+            throw new MappingException(Sofia.projectionTypeNotSupported(type.getName()), e);
+        }
+    }
+
+    private static final class ProjectionHandler implements InvocationHandler {
+        private final Class<?> type;
+        private final Map<Method, Integer> getters;
+        private final Object[] values;
+
+        ProjectionHandler(Class<?> type, Map<Method, Integer> getters, Object[] values) {
+            this.type = type;
+            this.getters = getters;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer index = getters.get(method);
+            if (index != null) {
+                return values[index];
+            }
+            switch (method.getName()) {
+                case "equals":
+                    return args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                           && equals(Proxy.getInvocationHandler(args[0]));
+                case "hashCode":
+                    return Arrays.hashCode(values);
+                case "toString":
+                    return toString();
+                default:
+                    return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                                        .unreflectSpecial(method, type)
+                                        .bindTo(proxy)
+                                        .invokeWithArguments(args);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ProjectionHandler && Arrays.equals(values, ((ProjectionHandler) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(values);
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", type.getSimpleName() + "{", "}");
+            for (Entry<Method, Integer> entry : getters.entrySet()) {
+                joiner.add(propertyName(entry.getKey()) + "=" + values[entry.getValue()]);
+            }
+            return joiner.toString();
+        }
+    }
+}
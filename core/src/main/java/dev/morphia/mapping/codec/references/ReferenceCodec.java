@@ -17,12 +17,13 @@ import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.experimental.ListReference;
 import dev.morphia.mapping.experimental.MapReference;
 import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.mapping.experimental.ReferenceBatch;
 import dev.morphia.mapping.experimental.SetReference;
 import dev.morphia.mapping.experimental.SingleReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType.Loaded;
+import net.bytebuddy.description.modifier.Visibility;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
 import net.bytebuddy.implementation.InvocationHandlerAdapter;
 import net.bytebuddy.matcher.ElementMatchers;
@@ -35,7 +36,9 @@ import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -51,6 +54,12 @@ import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.docum
  */
 @SuppressWarnings("unchecked")
 public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHandler {
+    private static final ClassValue<ProxyType> PROXY_TYPES = new ClassValue<>() {
+        @Override
+        protected ProxyType computeValue(Class<?> type) {
+            return new ProxyType(type);
+        }
+    };
     private final Reference annotation;
     private final BsonTypeClassMap bsonTypeClassMap = new BsonTypeClassMap();
 
@@ -215,29 +224,7 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
     }
 
     private <T> T createProxy(MorphiaReference reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
-        try {
-            Class<?> type = getField().getType();
-            String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
-            return ((Loaded<T>) new ByteBuddy()
-                                    .subclass(type)
-                                    .implement(MorphiaProxy.class)
-                                    .name(name)
-
-                                    .invokable(ElementMatchers.isDeclaredBy(type))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .make()
-                                    .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER))
-                       .getLoaded()
-                       .getDeclaredConstructor()
-                       .newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
-        }
+        return (T) PROXY_TYPES.get(getField().getType()).newInstance(new ReferenceProxy(reference));
     }
 
     private Object fetch(Object value) {
@@ -258,7 +245,11 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         }
         reference.ignoreMissing(annotation.ignoreMissing());
 
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
+        if (annotation.lazy()) {
+            return createProxy(reference);
+        }
+        ReferenceBatch batch = ReferenceBatch.current();
+        return batch != null && !reference.isResolved() ? batch.defer(reference) : reference.get();
     }
 
     MorphiaReference readDocument(Document value) {
@@ -289,5 +280,51 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
     MorphiaReference readSingle(Object value) {
         return new SingleReference(getDatastore(), getEntityModelForField(), value);
     }
-}
 
+    /**
+     * A lazy reference proxy class generated once per field type.  Each instance is bound to its {@link ReferenceProxy} through a
+     * generated field rather than through a class generated per decoded value.
+     */
+    private static class ProxyType {
+        private static final String HANDLER = "$$handler";
+        private final Constructor<?> constructor;
+        private final Field handler;
+
+        ProxyType(Class<?> type) {
+            try {
+                String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
+                Class<?> proxyType = new ByteBuddy()
+                                         .subclass(type)
+                                         .implement(MorphiaProxy.class)
+                                         .name(name)
+                                         .defineField(HANDLER, InvocationHandler.class, Visibility.PRIVATE)
+
+                                         .method(ElementMatchers.isDeclaredBy(type))
+                                         .intercept(InvocationHandlerAdapter.toField(HANDLER))
+
+                                         .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                                         .intercept(InvocationHandlerAdapter.toField(HANDLER))
+
+                                         .make()
+                                         .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER)
+                                         .getLoaded();
+                constructor = proxyType.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                handler = proxyType.getDeclaredField(HANDLER);
+                handler.setAccessible(true);
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                throw new MappingException(e.getMessage(), e);
+            }
+        }
+
+        Object newInstance(ReferenceProxy referenceProxy) {
+            try {
+                Object proxy = constructor.newInstance();
+                handler.set(proxy, referenceProxy);
+                return proxy;
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                throw new MappingException(e.getMessage(), e);
+            }
+        }
+    }
+}
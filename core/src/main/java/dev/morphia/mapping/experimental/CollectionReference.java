@@ -155,6 +155,35 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
         return values;
     }
 
+    @Override
+    void collectIds(Map<String, List<Object>> target) {
+        if (!isResolved()) {
+            for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                register(target, entry.getKey()).addAll(extractIds(entry.getValue()));
+            }
+        }
+    }
+
+    @Override
+    void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && ids != null) {
+            Map<Object, Object> idMap = new HashMap<>();
+            for (String collection : collections.keySet()) {
+                Map<Object, Object> found = entities.get(collection);
+                if (found != null) {
+                    idMap.putAll(found);
+                }
+            }
+            boolean complete = extractIds(ids).stream()
+                                              .allMatch(id -> idMap.containsKey(id instanceof DBRef ? ((DBRef) id).getId() : id));
+            if (complete || ignoreMissing()) {
+                setValues(mapIds(ids, idMap).stream()
+                                            .filter(Objects::nonNull)
+                                            .collect(Collectors.toList()));
+            }
+        }
+    }
+
     abstract Collection<?> getValues();
 
     Map<Object, Object> query(String collection, List<Object> collectionIds) {
@@ -0,0 +1,154 @@
+package dev.morphia.mapping.experimental;
+
+import dev.morphia.internal.Records;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.sofia.Sofia;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+
+/**
+ * The constructor a type's instances are created with and which of the type's fields it takes, resolved once per type.  Each field is
+ * mapped by its {@link FieldModel#getIndex() index} to the position of its parameter, or to -1 if the field is not taken by the
+ * constructor and is set on the instance once it is created.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ConstructorBinding {
+    private final EntityModel model;
+    private final MethodHandle constructor;
+    private final int[] parameters;
+    private final Object[] defaults;
+    private final int setters;
+
+    /**
+     * Binds a constructor whose parameters are named for the fields they take
+     *
+     * @param model       the model
+     * @param constructor the constructor
+     */
+    public ConstructorBinding(EntityModel model, Constructor<?> constructor) {
+        this(model, constructor, names(model, constructor));
+    }
+
+    private ConstructorBinding(EntityModel model, Constructor<?> constructor, String[] names) {
+        this.model = model;
+        int fields = model.getFields().size();
+        parameters = new int[fields];
+        Arrays.fill(parameters, -1);
+        defaults = new Object[names.length];
+        Class<?>[] types = constructor.getParameterTypes();
+        for (int i = 0; i < names.length; i++) {
+            FieldModel field = model.getField(names[i]);
+            if (field == null || field.getIndex() == -1) {
+                throw new MappingException(Sofia.misnamedConstructorParameter(model.getType(), names[i]));
+            }
+            if (parameters[field.getIndex()] != -1) {
+                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), names[i]));
+            }
+            parameters[field.getIndex()] = i;
+            // primitive parameters can't be passed null when their field is missing from the document
+            defaults[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+        }
+        setters = fields - names.length;
+        try {
+            constructor.setAccessible(true);
+            this.constructor = MethodHandles.lookup()
+                                            .unreflectConstructor(constructor)
+                                            .asSpreader(Object[].class, names.length)
+                                            .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Finds the constructor to create a type's instances with when it has no no-arg constructor: the canonical constructor of records or
+     * else the constructor with the most parameters which are all named for fields of the type.  Fields the constructor doesn't take
+     * are set on the instance afterwards.
+     *
+     * @param model the model
+     * @return the binding or null if no constructor matches
+     */
+    public static ConstructorBinding find(EntityModel model) {
+        Class<?> type = model.getType();
+        if (Records.isRecord(type)) {
+            try {
+                Constructor<?> canonical = type.getDeclaredConstructor(Records.componentTypes(type));
+                return new ConstructorBinding(model, canonical, Records.componentNames(type));
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+        Constructor<?> best = null;
+        for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+            if (!constructor.isSynthetic() && constructor.getParameterCount() > (best != null ? best.getParameterCount() : 0)
+                && ConstructorCreator.namesMatchFields(model, constructor)) {
+                best = constructor;
+            }
+        }
+        return best != null ? new ConstructorBinding(model, best) : null;
+    }
+
+    /**
+     * @param field the field
+     * @return the position of the field's parameter or -1 if it must be set on the instance
+     */
+    public int getParameter(FieldModel field) {
+        int index = field.getIndex();
+        return index != -1 && index < parameters.length ? parameters[index] : -1;
+    }
+
+    /**
+     * @return the number of fields set on the instance rather than passed to the constructor
+     */
+    public int getSetters() {
+        return setters;
+    }
+
+    /**
+     * @return a new array of arguments for the constructor holding the default value of each parameter
+     */
+    public Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /**
+     * Creates an instance
+     *
+     * @param arguments the arguments for the constructor
+     * @return the new instance
+     */
+    public Object newInstance(Object[] arguments) {
+        try {
+            return constructor.invokeExact(arguments);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()), e);
+        }
+    }
+
+    private static String[] names(EntityModel model, Constructor<?> constructor) {
+        if (constructor == null) {
+            throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
+        }
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = ConstructorCreator.getParameterName(parameters[i]);
+            if (names[i].matches("arg[0-9]+")) {
+                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+            }
+        }
+        return names;
+    }
+}
@@ -1,60 +1,44 @@
 package dev.morphia.mapping.experimental;
 
 import dev.morphia.annotations.experimental.Name;
-import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
-import dev.morphia.sofia.Sofia;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.function.BiFunction;
+import java.util.Arrays;
 
 /**
- * Defines a Creator that uses a full constructor to create an instance rather than field injection.  This requires that a class have a
- * constructor that accepts a parameter for each mapped field on the class.
+ * Defines a Creator that uses a constructor to create an instance rather than field injection.  Values of the fields the constructor
+ * takes are collected as its arguments while any other fields are set on the instance once it has been created.
  *
  * @morphia.internal
+ * @see ConstructorBinding
  */
 public class ConstructorCreator implements MorphiaInstanceCreator {
-    private final Object[] parameters;
-    private final Constructor<?> constructor;
-    private final EntityModel model;
-    private final Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
+    private final ConstructorBinding binding;
+    private final Object[] arguments;
+    private FieldModel[] fields;
+    private Object[] values;
+    private int pending;
+    private Object instance;
 
     /**
      * @param model       the model
      * @param constructor the constructor to use
      */
     public ConstructorCreator(EntityModel model, Constructor<?> constructor) {
-        this.model = model;
-        this.constructor = constructor;
-        if (this.constructor == null) {
-            throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
-        }
-        this.constructor.setAccessible(true);
-
-        final Parameter[] constructorParameters = this.constructor.getParameters();
-        this.parameters = new Object[constructorParameters.length];
-        for (int i = 0; i < constructorParameters.length; i++) {
-            final Parameter parameter = constructorParameters[i];
-            final int finalI = i;
-            String name = getParameterName(parameter);
-            if (name.matches("arg[0-9]+")) {
-                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
-            }
-            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
-                params[finalI] = v;
-                return null;
-            });
+        this(new ConstructorBinding(model, constructor));
+    }
 
-            if (old != null) {
-                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
-            }
-        }
+    /**
+     * @param binding the constructor to use
+     * @since 2.2
+     */
+    public ConstructorCreator(ConstructorBinding binding) {
+        this.binding = binding;
+        arguments = binding.newArguments();
     }
 
     /**
@@ -81,7 +65,7 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
         return name != null ? name.value() : parameter.getName();
     }
 
-    private static boolean namesMatchFields(EntityModel model, Constructor<?> constructor) {
+    static boolean namesMatchFields(EntityModel model, Constructor<?> constructor) {
         for (Parameter parameter : constructor.getParameters()) {
             if (model.getField(getParameterName(parameter)) == null) {
                 return false;
@@ -93,15 +77,37 @@ public class ConstructorCreator implements MorphiaInstanceCreator {
 
     @Override
     public Object getInstance() {
-        try {
-            return constructor.newInstance(parameters);
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()));
+        if (instance == null) {
+            instance = binding.newInstance(arguments);
+            for (int i = 0; i < pending; i++) {
+                fields[i].getAccessor().set(instance, values[i]);
+            }
+            fields = null;
+            values = null;
         }
+        return instance;
     }
 
     @Override
     public void set(Object value, FieldModel model) {
-        positions.get(model.getName()).apply(parameters, value);
+        int parameter = instance == null ? binding.getParameter(model) : -1;
+        if (parameter != -1) {
+            if (value != null) {
+                arguments[parameter] = value;
+            }
+        } else if (instance != null) {
+            model.getAccessor().set(instance, value);
+        } else {
+            if (fields == null) {
+                int size = Math.max(binding.getSetters(), 1);
+                fields = new FieldModel[size];
+                values = new Object[size];
+            } else if (pending == fields.length) {
+                fields = Arrays.copyOf(fields, pending * 2);
+                values = Arrays.copyOf(values, pending * 2);
+            }
+            fields[pending] = model;
+            values[pending++] = value;
+        }
     }
 }
@@ -127,6 +127,37 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
         return ids;
     }
 
+    @Override
+    void collectIds(Map<String, List<Object>> target) {
+        if (!isResolved()) {
+            for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                CollectionReference.register(target, entry.getKey()).addAll(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && ids != null) {
+            final Map<Object, Object> idMap = new HashMap<>();
+            for (String collection : collections.keySet()) {
+                Map<Object, Object> found = entities.get(collection);
+                if (found != null) {
+                    idMap.putAll(found);
+                }
+            }
+            values = new LinkedHashMap<>();
+            for (Entry<String, Object> entry : ids.entrySet()) {
+                final Object id = entry.getValue();
+                final T value = (T) idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
+                if (value != null) {
+                    values.put(entry.getKey(), value);
+                }
+            }
+            resolve();
+        }
+    }
+
     private void mergeReads() {
         for (Entry<String, List<Object>> entry : collections.entrySet()) {
             readFromSingleCollection(entry.getKey(), entry.getValue());
@@ -3,6 +3,7 @@ package dev.morphia.mapping.experimental;
 import com.mongodb.DBRef;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.Handler;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
@@ -28,7 +29,9 @@ public abstract class MorphiaReference<T> {
     }
 
     MorphiaReference(Datastore datastore) {
-        this.datastore = datastore;
+        // references decoded by a session's query resolve through that session so they can be served from its identity map
+        Datastore session = IdentityMap.decodingSession();
+        this.datastore = session != null ? session : datastore;
     }
 
     static Object wrapId(Mapper mapper, FieldModel field, Object entity) {
@@ -118,6 +121,23 @@ public abstract class MorphiaReference<T> {
 
     abstract Object getId(Mapper mapper, Datastore datastore, EntityModel entityModel);
 
+    /**
+     * Adds the IDs this reference still needs to fetch to the per collection lists.
+     *
+     * @param collections the IDs to fetch keyed by collection name
+     * @see ReferenceBatch
+     */
+    abstract void collectIds(Map<String, List<Object>> collections);
+
+    /**
+     * Resolves this reference from already fetched entities.  If any referenced entities are missing, and those are not being ignored,
+     * the reference is left unresolved so that {@link #get()} reports them as it normally would.
+     *
+     * @param entities the fetched entities keyed by collection name and then ID
+     * @see ReferenceBatch
+     */
+    abstract void resolveFrom(Map<String, Map<Object, Object>> entities);
+
     /**
      * @return the datastore
      * @morphia.internal
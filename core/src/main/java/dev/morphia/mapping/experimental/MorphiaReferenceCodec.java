@@ -50,15 +50,21 @@ public class MorphiaReferenceCodec extends PropertyCodec<MorphiaReference> imple
                              .get(bsonTypeClassMap.get(reader.getCurrentBsonType()))
                              .decode(reader, decoderContext);
         value = processId(value, mapper, decoderContext);
+        final MorphiaReference reference;
         if (Set.class.isAssignableFrom(getTypeData().getType())) {
-            return new SetReference<>(getDatastore(), getEntityModelForField(), (List) value);
+            reference = new SetReference<>(getDatastore(), getEntityModelForField(), (List) value);
         } else if (Collection.class.isAssignableFrom(getTypeData().getType())) {
-            return new ListReference<>(getDatastore(), getEntityModelForField(), (List) value);
+            reference = new ListReference<>(getDatastore(), getEntityModelForField(), (List) value);
         } else if (Map.class.isAssignableFrom(getTypeData().getType())) {
-            return new MapReference<>(getDatastore(), (Map) value, getEntityModelForField());
+            reference = new MapReference<>(getDatastore(), (Map) value, getEntityModelForField());
         } else {
-            return new SingleReference<>(getDatastore(), getEntityModelForField(), value);
+            reference = new SingleReference<>(getDatastore(), getEntityModelForField(), value);
         }
+        ReferenceBatch batch = ReferenceBatch.current();
+        if (batch != null) {
+            batch.register(reference);
+        }
+        return reference;
     }
 
     @Override
@@ -0,0 +1,200 @@
+package dev.morphia.mapping.experimental;
+
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * Collects the references decoded while reading a batch of entities so that they can be fetched with one query per referenced
+ * collection rather than one query per reference.
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final Datastore datastore;
+    private List<MorphiaReference<?>> references = new ArrayList<>();
+    private List<Deferred> deferred = new ArrayList<>();
+
+    /**
+     * Creates a batch
+     *
+     * @param datastore the datastore to fetch referenced entities with
+     */
+    public ReferenceBatch(Datastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch collecting references on this thread or null if references are being resolved individually
+     */
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs an operation which decodes entities, e.g. reading the next batch from a cursor, collecting any references decoded along the
+     * way.  Once the operation completes the collected references are resolved.
+     *
+     * @param operation the operation to run
+     * @param <V>       the result type of the operation
+     * @return the result of the operation
+     */
+    public <V> V resolve(Supplier<V> operation) {
+        ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            V result = operation.get();
+            resolve();
+            return result;
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Registers a reference to be resolved with the rest of the batch.  The reference is assigned to its field once resolved.
+     *
+     * @param reference the reference
+     * @return the placeholder to hand back to the entity decoder
+     */
+    public Deferred defer(MorphiaReference<?> reference) {
+        register(reference);
+        Deferred value = new Deferred(reference);
+        deferred.add(value);
+        return value;
+    }
+
+    /**
+     * Registers a reference to be resolved with the rest of the batch.  The reference itself is already held by its entity.
+     *
+     * @param reference the reference
+     */
+    public void register(MorphiaReference<?> reference) {
+        if (!reference.isResolved()) {
+            references.add(reference);
+        }
+    }
+
+    /**
+     * @return a marker to pass to {@link #bind(int, Object)} once the entity being decoded has been created
+     */
+    public int mark() {
+        return deferred.size();
+    }
+
+    /**
+     * Binds the references deferred since the given mark to the entity they were decoded for.  References deferred by nested entities
+     * have already been bound to those entities.
+     *
+     * @param mark   the mark taken before decoding the entity
+     * @param entity the decoded entity
+     */
+    public void bind(int mark, Object entity) {
+        for (int i = mark; i < deferred.size(); i++) {
+            Deferred value = deferred.get(i);
+            if (value.entity == null) {
+                value.entity = entity;
+            }
+        }
+    }
+
+    private void resolve() {
+        Map<String, Map<Object, Object>> entities = new HashMap<>();
+        while (!references.isEmpty()) {
+            List<MorphiaReference<?>> pending = references;
+            List<Deferred> assignments = deferred;
+            references = new ArrayList<>();
+            deferred = new ArrayList<>();
+
+            Map<String, List<Object>> collections = new LinkedHashMap<>();
+            for (MorphiaReference<?> reference : pending) {
+                reference.collectIds(collections);
+            }
+            // entities fetched here are decoded with this batch still active so their references are gathered for the next pass
+            for (Entry<String, List<Object>> entry : collections.entrySet()) {
+                fetch(entry.getKey(), entry.getValue(), entities.computeIfAbsent(entry.getKey(), k -> new HashMap<>()));
+            }
+            for (MorphiaReference<?> reference : pending) {
+                reference.resolveFrom(entities);
+            }
+            for (Deferred assignment : assignments) {
+                assignment.assign();
+            }
+        }
+    }
+
+    private void fetch(String collection, List<Object> ids, Map<Object, Object> found) {
+        IdentityMap identities = IdentityMap.of(datastore);
+        Set<Object> missing = new LinkedHashSet<>();
+        for (Object id : ids) {
+            if (!found.containsKey(id)) {
+                Object tracked = identities != null ? identities.get(collection, id) : null;
+                if (tracked != null) {
+                    found.put(id, tracked);
+                } else {
+                    missing.add(id);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            try (MongoCursor<?> cursor = datastore.find(collection)
+                                                  .disableValidation()
+                                                  .filter(in("_id", missing))
+                                                  .iterator()) {
+                while (cursor.hasNext()) {
+                    final Object entity = cursor.next();
+                    found.put(datastore.getMapper().getId(entity), entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * The value decoded for an eager reference field while batching.  The entity decoder records the field it was decoded for and the
+     * resolved value is assigned to that field once the batch has been fetched.
+     *
+     * @morphia.internal
+     */
+    public static final class Deferred {
+        private final MorphiaReference<?> reference;
+        private FieldModel model;
+        private Object entity;
+
+        private Deferred(MorphiaReference<?> reference) {
+            this.reference = reference;
+        }
+
+        /**
+         * @param model the field this reference was decoded for
+         */
+        public void field(FieldModel model) {
+            this.model = model;
+        }
+
+        private void assign() {
+            if (entity != null && model != null) {
+                model.setValue(entity, reference.get());
+            }
+        }
+    }
+}
@@ -11,6 +11,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.List;
+import java.util.Map;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 
@@ -96,6 +97,32 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return id;
     }
 
+    @Override
+    void collectIds(Map<String, List<Object>> collections) {
+        if (!isResolved() && id != null) {
+            CollectionReference.collate(entityModel, collections, id);
+        }
+    }
+
+    @Override
+    void resolveFrom(Map<String, Map<Object, Object>> entities) {
+        if (!isResolved() && id != null) {
+            final Map<Object, Object> found;
+            final Object key;
+            if (id instanceof DBRef) {
+                found = entities.get(((DBRef) id).getCollectionName());
+                key = ((DBRef) id).getId();
+            } else {
+                found = entities.get(entityModel.getCollectionName());
+                key = id;
+            }
+            value = found != null ? (T) found.get(key) : null;
+            if (value != null || ignoreMissing()) {
+                resolve();
+            }
+        }
+    }
+
     Query<?> buildQuery() {
         final Query<?> query;
         if (id instanceof DBRef) {
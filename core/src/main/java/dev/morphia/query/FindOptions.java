@@ -46,6 +46,8 @@ import java.util.concurrent.TimeUnit;
  */
 public final class FindOptions implements SessionConfigurable<FindOptions>, ReadConfigurable<FindOptions> {
     private int batchSize;
+    private boolean batchReferences;
+    private int prefetchBatches;
     private int limit;
     private long maxTimeMS;
     private long maxAwaitTimeMS;
@@ -108,18 +110,34 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         iterable.showRecordId(showRecordId);
         iterable.skip(skip);
         if (sort != null) {
-            Document mapped = new Document();
-            EntityModel model = mapper.getEntityModel(type);
-            for (Entry<String, Object> entry : sort.entrySet()) {
-                Object value = entry.getValue();
-                boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
-                mapped.put(new PathTarget(mapper, model, entry.getKey(), !metaScore).translatedPath(), value);
-            }
-            iterable.sort(mapped);
+            iterable.sort(mapSort(mapper, type));
         }
         return iterable;
     }
 
+    /**
+     * Maps the sort criteria to the stored field names
+     *
+     * @param mapper the mapper to use
+     * @param type   the entity type
+     * @return the mapped sort criteria or null if no sort is defined
+     * @morphia.internal
+     * @since 2.2
+     */
+    public Document mapSort(Mapper mapper, Class<?> type) {
+        if (sort == null) {
+            return null;
+        }
+        Document mapped = new Document();
+        EntityModel model = mapper.getEntityModel(type);
+        for (Entry<String, Object> entry : sort.entrySet()) {
+            Object value = entry.getValue();
+            boolean metaScore = value instanceof Document && ((Document) value).get("$meta") != null;
+            mapped.put(new PathTarget(mapper, model, entry.getKey(), !metaScore).translatedPath(), value);
+        }
+        return mapped;
+    }
+
     /**
      * Sets the batch size
      *
@@ -131,6 +149,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Enables resolving the references of each batch of results together.  Rather than fetching every reference as its entity is
+     * decoded, the referenced ids of a whole batch are grouped by collection and each collection is queried once.  This applies to
+     * eagerly loaded {@code @Reference} fields and to {@code MorphiaReference} fields.  Lazy references are left untouched.
+     * <p>
+     * Note that eager references are assigned once their batch has been read so they will not yet be set when {@code @PostLoad}
+     * methods run.
+     *
+     * @param batchReferences true to resolve references per batch
+     * @return this
+     * @since 2.2
+     */
+    public FindOptions batchReferences(boolean batchReferences) {
+        this.batchReferences = batchReferences;
+        return this;
+    }
+
     /**
      * Set the client session to use for the insert.
      *
@@ -191,6 +226,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
      */
     public FindOptions copy(FindOptions original) {
         this.batchSize = original.batchSize;
+        this.batchReferences = original.batchReferences;
+        this.prefetchBatches = original.prefetchBatches;
         this.limit = original.limit;
         this.maxTimeMS = original.maxTimeMS;
         this.maxAwaitTimeMS = original.maxAwaitTimeMS;
@@ -350,6 +387,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     public String toString() {
         return new StringJoiner(", ", FindOptions.class.getSimpleName() + "[", "]")
                    .add("batchSize=" + batchSize)
+                   .add("batchReferences=" + batchReferences)
+                   .add("prefetchBatches=" + prefetchBatches)
                    .add("limit=" + limit)
                    .add("maxTimeMS=" + maxTimeMS)
                    .add("maxAwaitTimeMS=" + maxAwaitTimeMS)
@@ -394,6 +433,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * @return the index hint by name
+     * @since 2.2
+     */
+    public String getHintString() {
+        return hintString;
+    }
+
     /**
      * @return the sort criteria
      */
@@ -422,6 +469,24 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return queryLogId != null;
     }
 
+    /**
+     * @return true if references are resolved per batch of results
+     * @see #batchReferences(boolean)
+     * @since 2.2
+     */
+    public boolean isBatchReferences() {
+        return batchReferences;
+    }
+
+    /**
+     * @return the number of batches fetched and decoded ahead of the one being read or 0 if results are decoded as they are read
+     * @see #prefetchBatches(int)
+     * @since 2.2
+     */
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
     /**
      * @return is the cursor timeout enabled
      */
@@ -585,6 +650,23 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         return this;
     }
 
+    /**
+     * Pipelines reading the results.  The raw documents are fetched on a background thread and each batch is decoded on a shared pool of
+     * worker threads while the application is still reading the previous ones.  Up to the given number of batches are held in memory
+     * ahead of the one being read.  Results are still returned in order.  The batch size determines how many documents are decoded
+     * together.
+     * <p>
+     * Lifecycle methods run on the worker threads.  The cursor must be closed if it isn't read to the end.
+     *
+     * @param prefetchBatches the number of batches to fetch and decode ahead or 0 to decode each result as it is read
+     * @return this
+     * @since 2.2
+     */
+    public FindOptions prefetchBatches(int prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
     /**
      * @return the projection
      */
@@ -609,6 +691,8 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
     @Override
     public int hashCode() {
         int result = getBatchSize();
+        result = 31 * result + (isBatchReferences() ? 1 : 0);
+        result = 31 * result + getPrefetchBatches();
         result = 31 * result + getLimit();
         result = 31 * result + (int) (maxTimeMS ^ (maxTimeMS >>> 32));
         result = 31 * result + (int) (maxAwaitTimeMS ^ (maxAwaitTimeMS >>> 32));
@@ -644,6 +728,12 @@ public final class FindOptions implements SessionConfigurable<FindOptions>, Read
         if (getBatchSize() != that.getBatchSize()) {
             return false;
         }
+        if (isBatchReferences() != that.isBatchReferences()) {
+            return false;
+        }
+        if (getPrefetchBatches() != that.getPrefetchBatches()) {
+            return false;
+        }
         if (getLimit() != that.getLimit()) {
             return false;
         }
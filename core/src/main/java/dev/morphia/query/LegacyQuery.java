@@ -10,11 +10,13 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.PartitionedCursor;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -160,14 +162,20 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        Document query = getQueryDocument();
+        IdentityMap.invalidate(datastore, getCollectionName(), query);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(query, options)
+                       : collection.deleteMany(session, query, options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(query, options)
+                       : collection.deleteOne(session, query, options);
+            }
+        } finally {
+            mapper.invalidate(getCollectionName(), query);
         }
     }
 
@@ -189,9 +197,15 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        Document query = getQueryDocument();
+        IdentityMap.invalidate(datastore, getCollectionName(), query);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(query, options)
+                   : mongoCollection.findOneAndDelete(session, query, options);
+        } finally {
+            mapper.invalidate(getCollectionName(), query);
+        }
     }
 
     /**
@@ -267,7 +281,23 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        return new MorphiaCursor<>(prepareCursor(toDocument(), options, getCollection()));
+    }
+
+    @Override
+    public MorphiaCursor<T> partitionedIterator(int partitions) {
+        return partitionedIterator(partitions, new FindOptions());
+    }
+
+    @Override
+    public MorphiaCursor<T> partitionedIterator(int partitions, FindOptions options) {
+        Document query = toDocument();
+        List<Document> ranges = PartitionedCursor.ranges(getCollection(), query, partitions);
+        if (ranges.size() == 1) {
+            return new MorphiaCursor<>(prepareCursor(query, options, getCollection()));
+        }
+        return new MorphiaCursor<>(new PartitionedCursor<>(ranges, range -> prepareCursor(
+            query.isEmpty() ? range : new Document("$and", List.of(query, range)), options, getCollection())));
     }
 
     @Override
@@ -281,7 +311,7 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
                                                  .projection()
                                                  .include("_id");
 
-        return new MorphiaKeyCursor<>(prepareCursor(returnKey,
+        return new MorphiaKeyCursor<>(prepareCursor(toDocument(), returnKey,
             datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
             clazz, getCollectionName());
     }
@@ -352,6 +382,7 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
      * @return the collection this query targets
      * @morphia.internal
      */
+    @Override
     public MongoCollection<T> getCollection() {
         return collection;
     }
@@ -439,8 +470,7 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return obj;
     }
 
-    private <E> MongoCursor<E> prepareCursor(FindOptions options, MongoCollection<E> collection) {
-        final Document query = this.toDocument();
+    private <E> MongoCursor<E> prepareCursor(Document query, FindOptions options, MongoCollection<E> collection) {
 
         FindOptions findOptions = getOptions().copy().copy(options);
         if (LOG.isTraceEnabled()) {
@@ -4,9 +4,11 @@ import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
 import dev.morphia.ModifyOptions;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * Represents a modify operation
@@ -44,10 +46,17 @@ public class Modify<T> extends UpdateBase<T> {
      */
     public T execute(ModifyOptions options) {
         ClientSession session = getDatastore().findSession(options);
-        Document update = toDocument();
-
-        return session == null
-               ? options.prepare(getCollection()).findOneAndUpdate(getQuery().toDocument(), update, options)
-               : options.prepare(getCollection()).findOneAndUpdate(session, getQuery().toDocument(), update, options);
+        Bson update = toBson();
+        Document query = getQuery().toDocument();
+        String collection = getCollection().getNamespace().getCollectionName();
+        IdentityMap.invalidate(getDatastore(), collection, query);
+
+        try {
+            return session == null
+                   ? options.prepare(getCollection()).findOneAndUpdate(query, update, options)
+                   : options.prepare(getCollection()).findOneAndUpdate(session, query, update, options);
+        } finally {
+            getDatastore().getMapper().invalidate(collection, query);
+        }
     }
 }
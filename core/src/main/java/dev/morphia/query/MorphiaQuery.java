@@ -8,31 +8,47 @@ import com.mongodb.client.model.geojson.Point;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
+import dev.morphia.cache.CachedCollection;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.internal.IdQueries;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.pojo.ProjectionCodec;
+import dev.morphia.mapping.experimental.ReferenceBatch;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
 import dev.morphia.query.experimental.updates.UpdateOperator;
+import dev.morphia.query.internal.ListCursor;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.PartitionedCursor;
+import dev.morphia.query.internal.PipelinedCursor;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonReader;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Supplier;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
 import static dev.morphia.query.experimental.filters.Filters.text;
 import static java.lang.String.format;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
 /**
  * @param <T> the type
@@ -47,6 +63,7 @@ public class MorphiaQuery<T> implements Query<T> {
     private final MongoCollection<T> collection;
     private final List<Filter> filters = new ArrayList<>();
     private final Document seedQuery;
+    private final Document prepared;
     private boolean validate = true;
 
     protected MorphiaQuery(Datastore datastore) {
@@ -54,6 +71,7 @@ public class MorphiaQuery<T> implements Query<T> {
         mapper = this.datastore.getMapper();
         clazz = null;
         seedQuery = null;
+        prepared = null;
         collection = null;
         collectionName = null;
     }
@@ -63,6 +81,7 @@ public class MorphiaQuery<T> implements Query<T> {
         this.datastore = datastore;
         mapper = this.datastore.getMapper();
         seedQuery = null;
+        prepared = null;
         if (collectionName != null) {
             this.collection = datastore.getDatabase().getCollection(collectionName, clazz);
             this.collectionName = collectionName;
@@ -79,11 +98,23 @@ public class MorphiaQuery<T> implements Query<T> {
         this.clazz = clazz;
         this.datastore = datastore;
         this.seedQuery = query;
+        prepared = null;
         mapper = this.datastore.getMapper();
         collection = mapper.getCollection(clazz);
         collectionName = collection.getNamespace().getCollectionName();
     }
 
+    private MorphiaQuery(MorphiaQuery<T> template, Document prepared) {
+        datastore = template.datastore;
+        clazz = template.clazz;
+        mapper = template.mapper;
+        collection = template.collection;
+        collectionName = template.collectionName;
+        validate = template.validate;
+        seedQuery = null;
+        this.prepared = prepared;
+    }
+
     static <V> V legacyOperation() {
         throw new UnsupportedOperationException(Sofia.legacyOperation());
     }
@@ -105,14 +136,20 @@ public class MorphiaQuery<T> implements Query<T> {
     public DeleteResult delete(DeleteOptions options) {
         MongoCollection<T> collection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        if (options.isMulti()) {
-            return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
-        } else {
-            return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+        Document query = getQueryDocument();
+        IdentityMap.invalidate(datastore, getCollectionName(), query);
+        try {
+            if (options.isMulti()) {
+                return session == null
+                       ? collection.deleteMany(query, options)
+                       : collection.deleteMany(session, query, options);
+            } else {
+                return session == null
+                       ? collection.deleteOne(query, options)
+                       : collection.deleteOne(session, query, options);
+            }
+        } finally {
+            mapper.invalidate(getCollectionName(), query);
         }
     }
 
@@ -169,9 +206,15 @@ public class MorphiaQuery<T> implements Query<T> {
     public T findAndDelete(FindAndDeleteOptions options) {
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
         ClientSession session = datastore.findSession(options);
-        return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+        Document query = getQueryDocument();
+        IdentityMap.invalidate(datastore, getCollectionName(), query);
+        try {
+            return session == null
+                   ? mongoCollection.findOneAndDelete(query, options)
+                   : mongoCollection.findOneAndDelete(session, query, options);
+        } finally {
+            mapper.invalidate(getCollectionName(), query);
+        }
     }
 
     @Override
@@ -198,7 +241,39 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> iterator(FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        return iterator(toDocument(), options);
+    }
+
+    @Override
+    public MorphiaCursor<T> partitionedIterator(int partitions) {
+        return partitionedIterator(partitions, new FindOptions());
+    }
+
+    @Override
+    public MorphiaCursor<T> partitionedIterator(int partitions, FindOptions options) {
+        Document query = toDocument();
+        List<Document> ranges = PartitionedCursor.ranges(getCollection(), query, partitions);
+        if (ranges.size() == 1) {
+            return iterator(query, options);
+        }
+        return new MorphiaCursor<>(new PartitionedCursor<>(ranges, range -> iterator(and(query, range), options)));
+    }
+
+    @Override
+    public <R> MorphiaCursor<R> project(Class<R> type, FindOptions options) {
+        if (options.getProjection() != null) {
+            throw new QueryException(Sofia.projectionAlreadySet(type.getName()));
+        }
+        ProjectionCodec<R> codec = mapper.getContext(clazz).getProjectionCodec(type);
+        FindOptions projected = new FindOptions().copy(options)
+                                                 .projection()
+                                                 .include(codec.getFields());
+        if (!codec.includesId()) {
+            projected.projection().exclude("_id");
+        }
+        MongoCollection<R> target = collection.withDocumentClass(type)
+                                              .withCodecRegistry(fromRegistries(fromCodecs(codec), collection.getCodecRegistry()));
+        return new MorphiaCursor<>(prepareCursor(toDocument(), projected, target));
     }
 
     @Override
@@ -212,7 +287,7 @@ public class MorphiaQuery<T> implements Query<T> {
                                                  .projection()
                                                  .include("_id");
 
-        return new MorphiaKeyCursor<>(prepareCursor(includeId,
+        return new MorphiaKeyCursor<>(prepareCursor(toDocument(), includeId,
             datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
             clazz, getCollectionName());
     }
@@ -281,7 +356,8 @@ public class MorphiaQuery<T> implements Query<T> {
      * @return the collection this query targets
      * @morphia.internal
      */
-    private MongoCollection<T> getCollection() {
+    @Override
+    public MongoCollection<T> getCollection() {
         return collection;
     }
 
@@ -290,8 +366,7 @@ public class MorphiaQuery<T> implements Query<T> {
     }
 
     @SuppressWarnings("ConstantConditions")
-    private <E> MongoCursor<E> prepareCursor(FindOptions findOptions, MongoCollection<E> collection) {
-        final Document query = toDocument();
+    private <E> MongoCursor<E> prepareCursor(Document query, FindOptions findOptions, MongoCollection<E> collection) {
 
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
@@ -328,8 +403,113 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    private MorphiaCursor<T> iterator(Document query, FindOptions options) {
+        IdentityMap identities = IdentityMap.of(datastore);
+        if (identities == null || options.getProjection() != null) {
+            return open(query, options);
+        }
+        MongoCursor<T> cached = options.getSkip() == 0 ? identities.lookup(getCollectionName(), clazz, query) : null;
+        return new MorphiaCursor<>(cached != null ? cached : identities.track(getCollectionName(), () -> open(query, options)));
+    }
+
+    private MorphiaCursor<T> open(Document query, FindOptions options) {
+        MongoCursor<T> cached = readThrough(query, options);
+        if (cached != null) {
+            return new MorphiaCursor<>(cached);
+        }
+        if (options.getPrefetchBatches() > 0) {
+            return new MorphiaCursor<>(pipelined(query, options));
+        }
+        if (options.isBatchReferences()) {
+            // the first batch is read when the cursor is opened so its references need collecting too
+            ReferenceBatch references = new ReferenceBatch(datastore);
+            return references.resolve(() -> new MorphiaCursor<>(prepareCursor(query, options, getCollection()), references));
+        }
+        return new MorphiaCursor<>(prepareCursor(query, options, getCollection()));
+    }
+
+    private PipelinedCursor<T> pipelined(Document query, FindOptions options) {
+        MongoCollection<T> collection = getCollection();
+        Codec<T> codec = collection.getCodecRegistry().get(collection.getDocumentClass());
+        MongoCursor<RawBsonDocument> raw = prepareCursor(query, options, collection.withDocumentClass(RawBsonDocument.class));
+        return new PipelinedCursor<>(raw, options.getBatchSize(), options.getPrefetchBatches(), batch -> decode(codec, batch, options));
+    }
+
+    private List<T> decode(Codec<T> codec, List<RawBsonDocument> documents, FindOptions options) {
+        Supplier<List<T>> decode = () -> {
+            List<T> entities = new ArrayList<>(documents.size());
+            for (RawBsonDocument document : documents) {
+                try (BsonReader reader = document.asBsonReader()) {
+                    entities.add(codec.decode(reader, DecoderContext.builder().build()));
+                }
+            }
+            return entities;
+        };
+        return options.isBatchReferences() ? new ReferenceBatch(datastore).resolve(decode) : decode.get();
+    }
+
+    /**
+     * Serves a query by id of a cached type from the second level cache, reading and caching only the documents the cache doesn't hold.
+     * Queries within a session always go to the server.
+     *
+     * @return the cursor or null if the query can't be served from the cache
+     */
+    private MongoCursor<T> readThrough(Document query, FindOptions options) {
+        CachedCollection cache = clazz != null && mapper.isMappable(clazz) ? mapper.getContext(clazz).getCache() : null;
+        if (cache == null || !cache.getCollection().equals(getCollectionName()) || options.getProjection() != null
+            || options.getSkip() != 0 || datastore.findSession(options) != null) {
+            return null;
+        }
+        List<Object> ids = IdQueries.idsOf(query);
+        if (ids == null || ids.size() > 1 && (options.getLimit() != 0 || options.getSort() != null)) {
+            return null;
+        }
+
+        List<RawBsonDocument> documents = new ArrayList<>();
+        List<Object> missing = new ArrayList<>();
+        for (Object id : new LinkedHashSet<>(ids)) {
+            RawBsonDocument document = cache.get(id);
+            if (document != null) {
+                documents.add(document);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Document remaining = new Document("_id", missing.size() == 1 ? missing.get(0) : new Document("$in", missing));
+            MongoCollection<T> collection = getCollection();
+            try (MongoCursor<RawBsonDocument> cursor = prepareCursor(remaining, options,
+                collection.withDocumentClass(RawBsonDocument.class))) {
+                while (cursor.hasNext()) {
+                    RawBsonDocument document = cursor.next();
+                    cache.put(document);
+                    documents.add(document);
+                }
+            }
+        }
+        Codec<T> codec = getCollection().getCodecRegistry().get(getCollection().getDocumentClass());
+        return new ListCursor<>(decode(codec, documents, options));
+    }
+
+    private static Document and(Document query, Document range) {
+        return query.isEmpty() ? range : new Document("$and", List.of(query, range));
+    }
+
+    /**
+     * Creates a query from a prepared query document.  Until further filters are added, the document is used as is.
+     *
+     * @param document the document with values bound
+     * @return the new query
+     */
+    MorphiaQuery<T> bound(Document document) {
+        return new MorphiaQuery<>(this, document);
+    }
+
     Document getQueryDocument() {
-        DocumentWriter writer = new DocumentWriter(seedQuery);
+        if (prepared != null && filters.isEmpty()) {
+            return prepared;
+        }
+        DocumentWriter writer = new DocumentWriter(prepared != null ? new Document(prepared) : seedQuery);
         document(writer, () -> {
             EncoderContext context = EncoderContext.builder().build();
             for (Filter filter : filters) {
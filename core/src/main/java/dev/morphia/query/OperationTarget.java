@@ -4,11 +4,17 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
+import org.bson.conversions.Bson;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.StringJoiner;
 
 import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
@@ -77,6 +83,69 @@ public class OperationTarget {
         return new Document(target.translatedPath(), mappedValue);
     }
 
+    /**
+     * Writes this target into the operator document currently open on the writer.  Values are encoded straight to the writer rather
+     * than through an intermediate Document.
+     *
+     * @param mapper         the mapper
+     * @param writer         the writer
+     * @param encoderContext the context
+     * @morphia.internal
+     * @since 2.2
+     */
+    @SuppressWarnings("unchecked")
+    public void encode(Mapper mapper, BsonWriter writer, EncoderContext encoderContext) {
+        if (target == null) {
+            encodeFields(mapper, writer, encode(mapper), encoderContext);
+            return;
+        }
+        FieldModel mappedField = this.target.getTarget();
+        Object mappedValue = value;
+
+        FieldModel model = mappedField != null
+                           ? mappedField.getEntityModel()
+                                        .getField(mappedField.getName())
+                           : null;
+
+        Codec cachedCodec = model != null && !(mappedValue instanceof LegacyQuery)
+                            ? model.getCachedCodec()
+                            : null;
+        if (cachedCodec instanceof PropertyHandler) {
+            mappedValue = ((PropertyHandler) cachedCodec).encode(mappedValue);
+        }
+        writer.writeName(target.translatedPath());
+        if (mappedValue == null) {
+            writer.writeNull();
+        } else {
+            value(mapper, writer, mappedValue, encoderContext);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void encodeFields(Mapper mapper, BsonWriter writer, Object encoded, EncoderContext encoderContext) {
+        if (encoded instanceof Map) {
+            for (Entry<String, Object> entry : ((Map<String, Object>) encoded).entrySet()) {
+                writer.writeName(entry.getKey());
+                if (entry.getValue() == null) {
+                    writer.writeNull();
+                } else {
+                    value(mapper, writer, entry.getValue(), encoderContext);
+                }
+            }
+        } else if (encoded instanceof Bson) {
+            encodeFields(mapper, writer, ((Bson) encoded).toBsonDocument(Document.class, mapper.getCodecRegistry()), encoderContext);
+        } else if (encoded != null) {
+            Codec<?> codec = mapper.getCodecRegistry().get(encoded.getClass());
+            if (codec instanceof MorphiaCodec) {
+                ((MorphiaCodec<?>) codec).encodeFields(writer, encoded, encoderContext, Collections.emptySet());
+            } else {
+                DocumentWriter documentWriter = new DocumentWriter();
+                value(mapper, documentWriter, encoded, encoderContext);
+                encodeFields(mapper, writer, documentWriter.getDocument(), encoderContext);
+            }
+        }
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", OperationTarget.class.getSimpleName() + "[", "]")
@@ -6,19 +6,29 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonWriter;
 import org.bson.Document;
+import org.bson.codecs.Encoder;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
 
+import static dev.morphia.aggregation.experimental.codecs.ExpressionHelper.document;
+
 /**
  * @morphia.internal
  */
-class Operations {
+class Operations implements Bson {
     private final Map<String, List<OperationTarget>> ops = new HashMap<>();
     private final Mapper mapper;
     private final EntityModel entityModel;
@@ -43,7 +53,13 @@ class Operations {
             throw new UpdateException(Sofia.mixedUpdateOperationsNotAllowed());
         }
 
-        add("$set", new OperationTarget(null, new UpdateDocument(entity)));
+        UpdateDocument document = new UpdateDocument(entity);
+        add("$set", new OperationTarget(null, document) {
+            @Override
+            public void encode(Mapper mapper, BsonWriter writer, EncoderContext encoderContext) {
+                document.encodeFields(writer, encoderContext, mapper.getCodecRegistry());
+            }
+        });
     }
 
     protected void versionUpdate() {
@@ -95,4 +111,43 @@ class Operations {
         return document;
     }
 
+    /**
+     * Wraps these operations so that the driver writes them straight to the wire when the update is sent rather than Morphia first
+     * building a Document of them.
+     *
+     * @morphia.internal
+     */
+    @Override
+    public <TDocument> BsonDocument toBsonDocument(Class<TDocument> documentClass, CodecRegistry codecRegistry) {
+        versionUpdate();
+        return new BsonDocumentWrapper<>(this, new Encoder<Operations>() {
+            @Override
+            public void encode(BsonWriter writer, Operations value, EncoderContext encoderContext) {
+                value.encode(writer, encoderContext);
+            }
+
+            @Override
+            public Class<Operations> getEncoderClass() {
+                return Operations.class;
+            }
+        });
+    }
+
+    private void encode(BsonWriter writer, EncoderContext encoderContext) {
+        document(writer, () -> {
+            for (Entry<String, List<OperationTarget>> entry : ops.entrySet()) {
+                // later targets for the same path replace earlier ones as they would in a Document
+                Map<Object, OperationTarget> targets = new LinkedHashMap<>();
+                for (OperationTarget operationTarget : entry.getValue()) {
+                    targets.put(operationTarget.getTarget() != null ? operationTarget.getTarget().translatedPath() : operationTarget,
+                        operationTarget);
+                }
+                document(writer, entry.getKey(), () -> {
+                    for (OperationTarget operationTarget : targets.values()) {
+                        operationTarget.encode(mapper, writer, encoderContext);
+                    }
+                });
+            }
+        });
+    }
 }
@@ -0,0 +1,76 @@
+package dev.morphia.query;
+
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.sofia.Sofia;
+
+import java.util.StringJoiner;
+
+/**
+ * A named placeholder for a filter value.  Queries using parameters are {@link dev.morphia.Datastore#prepare(Query) prepared} once and
+ * then executed with different values bound to the parameters.
+ *
+ * @see PreparedQuery
+ * @since 2.2
+ */
+public final class Parameter {
+    private final String name;
+    private final FieldModel target;
+
+    private Parameter(String name, FieldModel target) {
+        this.name = name;
+        this.target = target;
+    }
+
+    /**
+     * Creates a parameter
+     *
+     * @param name the name to bind a value to
+     * @return the new parameter
+     */
+    public static Parameter param(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException(Sofia.notNull("name"));
+        }
+        return new Parameter(name, null);
+    }
+
+    /**
+     * @return the name of this parameter
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records the field a use of this parameter is compared against.
+     *
+     * @param target the field or null if the path did not resolve to one
+     * @return a parameter with the same name bound to the field
+     * @morphia.internal
+     */
+    public Parameter target(FieldModel target) {
+        return new Parameter(name, target);
+    }
+
+    /**
+     * Maps a bound value the same way a filter maps a value given directly.
+     *
+     * @param value the bound value
+     * @return the value to place in the query document
+     * @morphia.internal
+     */
+    public Object map(Object value) {
+        if (value != null && target != null && target.getCodec() instanceof PropertyHandler) {
+            return ((PropertyHandler) target.getCodec()).encode(value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Parameter.class.getSimpleName() + "[", "]")
+                   .add("name='" + name + "'")
+                   .toString();
+    }
+}
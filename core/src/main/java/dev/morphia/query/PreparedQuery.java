@@ -0,0 +1,147 @@
+package dev.morphia.query;
+
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A query whose filter document has been encoded once with {@link Parameter parameters} standing in for its values.  Binding values
+ * to the parameters only copies the parts of the template holding them so path translation, codec lookups and discriminator handling
+ * are not repeated for each execution.
+ * <p>
+ * Templates are immutable and may be shared between threads.
+ *
+ * @param <T> the type being queried
+ * @see dev.morphia.Datastore#prepare(Query)
+ * @since 2.2
+ */
+public class PreparedQuery<T> {
+    private final MorphiaQuery<T> query;
+    private final Document template;
+    private final List<Slot> slots = new ArrayList<>();
+
+    /**
+     * Creates a template from a query
+     *
+     * @param query the query to prepare
+     * @morphia.internal
+     */
+    public PreparedQuery(Query<T> query) {
+        if (!(query instanceof MorphiaQuery)) {
+            throw new UnsupportedOperationException(Sofia.preparedQueryNotSupported());
+        }
+        this.query = (MorphiaQuery<T>) query;
+        template = this.query.getQueryDocument();
+        findSlots(template, new ArrayList<>());
+    }
+
+    /**
+     * Binds a value to the only parameter of this template.
+     *
+     * @param name  the parameter name
+     * @param value the value
+     * @return the query to execute
+     */
+    public Query<T> bind(String name, Object value) {
+        return bind(Collections.singletonMap(name, value));
+    }
+
+    /**
+     * Binds values to the parameters of this template.
+     *
+     * @param values the values keyed by parameter name
+     * @return the query to execute
+     * @throws QueryException if a parameter has no value
+     */
+    public Query<T> bind(Map<String, ?> values) {
+        Document document = new Document(template);
+        Map<Object, Object> copies = new IdentityHashMap<>();
+        for (Slot slot : slots) {
+            String name = slot.parameter.getName();
+            if (!values.containsKey(name)) {
+                throw new QueryException(Sofia.unboundParameter(name));
+            }
+            Object container = document;
+            for (int i = 0; i < slot.path.length - 1; i++) {
+                Object child = get(container, slot.path[i]);
+                Object copy = copies.get(child);
+                if (copy == null) {
+                    copy = child instanceof List ? new ArrayList<>((List<?>) child) : new Document((Document) child);
+                    copies.put(child, copy);
+                    copies.put(copy, copy);
+                    set(container, slot.path[i], copy);
+                }
+                container = copy;
+            }
+            set(container, slot.path[slot.path.length - 1], slot.parameter.map(values.get(name)));
+        }
+        return query.bound(document);
+    }
+
+    /**
+     * @return the names of the parameters in this template
+     */
+    public List<String> getParameterNames() {
+        List<String> names = new ArrayList<>();
+        for (Slot slot : slots) {
+            if (!names.contains(slot.parameter.getName())) {
+                names.add(slot.parameter.getName());
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public String toString() {
+        return template.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object get(Object container, Object key) {
+        return container instanceof List ? ((List<Object>) container).get((Integer) key) : ((Document) container).get(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void set(Object container, Object key, Object value) {
+        if (container instanceof List) {
+            ((List<Object>) container).set((Integer) key, value);
+        } else {
+            ((Document) container).put((String) key, value);
+        }
+    }
+
+    private void findSlots(Object value, List<Object> path) {
+        if (value instanceof Parameter) {
+            slots.add(new Slot(path.toArray(), (Parameter) value));
+        } else if (value instanceof Document) {
+            for (Entry<String, Object> entry : ((Document) value).entrySet()) {
+                path.add(entry.getKey());
+                findSlots(entry.getValue(), path);
+                path.remove(path.size() - 1);
+            }
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            for (int i = 0; i < list.size(); i++) {
+                path.add(i);
+                findSlots(list.get(i), path);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    private static class Slot {
+        private final Object[] path;
+        private final Parameter parameter;
+
+        Slot(Object[] path, Parameter parameter) {
+            this.path = path;
+            this.parameter = parameter;
+        }
+    }
+}
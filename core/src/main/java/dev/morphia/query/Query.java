@@ -1,6 +1,7 @@
 package dev.morphia.query;
 
 
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.result.DeleteResult;
 import dev.morphia.DeleteOptions;
 import dev.morphia.query.experimental.filters.Filter;
@@ -262,6 +263,13 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     T first(FindOptions options);
 
+    /**
+     * @return the collection this query targets
+     * @morphia.internal
+     * @since 2.2
+     */
+    MongoCollection<T> getCollection();
+
     /**
      * @return the entity {@link Class}.
      * @morphia.internal
@@ -287,6 +295,60 @@ public interface Query<T> extends CriteriaContainer, Iterable<T> {
      */
     MorphiaCursor<T> iterator(FindOptions options);
 
+    /**
+     * Executes the query as several concurrent scans of contiguous {@code _id} ranges, each with its own cursor and decoding thread.
+     * This speeds up reading large result sets, e.g. exporting a whole collection, when a single cursor is the bottleneck.  The range
+     * boundaries are sampled from the matching documents and fewer partitions are used if there aren't enough distinct ids.
+     * <p>
+     * Results are returned in no particular order and any sort, skip or limit applies to each partition separately.  The returned cursor
+     * must be closed if it isn't read to the end.
+     *
+     * @param partitions the number of ranges to scan concurrently
+     * @return the merged results of every partition
+     * @since 2.2
+     */
+    MorphiaCursor<T> partitionedIterator(int partitions);
+
+    /**
+     * Executes the query as several concurrent scans of contiguous {@code _id} ranges, each with its own cursor and decoding thread.
+     *
+     * @param partitions the number of ranges to scan concurrently
+     * @param options    the options to apply to the find operation of each partition
+     * @return the merged results of every partition
+     * @see #partitionedIterator(int)
+     * @since 2.2
+     */
+    MorphiaCursor<T> partitionedIterator(int partitions, FindOptions options);
+
+    /**
+     * Executes the query reading only the fields needed by a summary type rather than whole entities.  The type may be an interface, whose
+     * getters return the values read, a record or a class with a no-arg constructor whose fields are set.  Each property of the type must
+     * share its name with a mapped field of the entity.  The projection sent to the server is derived from those properties and each
+     * document is decoded straight in to the type, using the codecs of the entity's fields.
+     *
+     * @param type the type to read
+     * @param <R>  the type to read
+     * @return the results
+     * @since 2.2
+     */
+    default <R> MorphiaCursor<R> project(Class<R> type) {
+        return project(type, new FindOptions());
+    }
+
+    /**
+     * Executes the query reading only the fields needed by a summary type rather than whole entities.
+     *
+     * @param type    the type to read
+     * @param options the options to apply to the find operation.  They must not set a projection of their own.
+     * @param <R>     the type to read
+     * @return the results
+     * @see #project(Class)
+     * @since 2.2
+     */
+    default <R> MorphiaCursor<R> project(Class<R> type, FindOptions options) {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Execute the query and get the results (as a {@code MorphiaCursor<Key<T>>})
      *
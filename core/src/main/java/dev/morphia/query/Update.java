@@ -5,9 +5,11 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.Datastore;
 import dev.morphia.UpdateOptions;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * Defines an update operation
@@ -42,18 +44,24 @@ public class Update<T> extends UpdateBase<T> {
      * @return the results
      */
     public UpdateResult execute(UpdateOptions options) {
-        Document updateOperations = toDocument();
+        Bson updateOperations = toBson();
         final Document queryObject = getQuery().toDocument();
 
         ClientSession session = getDatastore().findSession(options);
         MongoCollection<T> mongoCollection = options.prepare(getCollection());
-        if (options.isMulti()) {
-            return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
-                                   : mongoCollection.updateMany(session, queryObject, updateOperations, options);
+        String collection = getCollection().getNamespace().getCollectionName();
+        IdentityMap.invalidate(getDatastore(), collection, queryObject);
+        try {
+            if (options.isMulti()) {
+                return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
+                                       : mongoCollection.updateMany(session, queryObject, updateOperations, options);
 
-        } else {
-            return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
-                                   : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            } else {
+                return session == null ? mongoCollection.updateOne(queryObject, updateOperations, options)
+                                       : mongoCollection.updateOne(session, queryObject, updateOperations, options);
+            }
+        } finally {
+            getDatastore().getMapper().invalidate(collection, queryObject);
         }
     }
 }
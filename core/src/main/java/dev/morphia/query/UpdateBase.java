@@ -6,6 +6,7 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.experimental.updates.UpdateOperator;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -67,13 +68,25 @@ public abstract class UpdateBase<T> {
      * @return the operations listed
      */
     public Document toDocument() {
+        return toOperations().toDocument();
+    }
+
+    /**
+     * @return the operations listed in a form the driver encodes straight to the wire
+     * @morphia.internal
+     */
+    public Bson toBson() {
+        return toOperations();
+    }
+
+    private Operations toOperations() {
         final Operations operations = new Operations(mapper, mapper.getEntityModel(type));
 
         for (UpdateOperator update : updates) {
             PathTarget pathTarget = new PathTarget(mapper, mapper.getEntityModel(type), update.field(), true);
             operations.add(update.operator(), update.toTarget(pathTarget));
         }
-        return operations.toDocument();
+        return operations;
     }
 
     protected void add(UpdateOperator operator) {
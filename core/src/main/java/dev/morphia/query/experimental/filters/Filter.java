@@ -5,6 +5,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.PropertyHandler;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.Parameter;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
@@ -112,7 +113,9 @@ public class Filter {
     protected Object getValue(Mapper mapper) {
         if (!mapped) {
             PathTarget target = pathTarget(mapper);
-            if (target != null) {
+            if (value instanceof Parameter) {
+                this.value = ((Parameter) value).target(target.getTarget());
+            } else if (target != null) {
                 OperationTarget operationTarget = new OperationTarget(pathTarget, value);
                 this.value = operationTarget.getValue();
                 FieldModel mappedField = target.getTarget();
@@ -4,11 +4,17 @@ import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.query.OperationTarget;
+import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
 import org.bson.codecs.EncoderContext;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
 /**
  * @morphia.internal
  * @since 2.0
@@ -43,6 +49,16 @@ public class SetEntityOperator extends UpdateOperator {
                 document.remove(entityModel.getVersionField().getMappedName());
                 return document;
             }
+
+            @Override
+            public void encode(Mapper mapper, BsonWriter writer, EncoderContext encoderContext) {
+                MorphiaCodec<?> codec = (MorphiaCodec<?>) mapper.getCodecRegistry().get(getValue().getClass());
+                FieldModel versionField = codec.getEntityModel().getVersionField();
+
+                codec.encodeFields(writer, getValue(), encoderContext, versionField != null
+                                                                       ? singleton(versionField.getMappedName())
+                                                                       : emptySet());
+            }
         };
     }
 }
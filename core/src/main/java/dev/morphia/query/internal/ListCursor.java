@@ -0,0 +1,57 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A cursor over results already held in memory, e.g. entities served from a cache rather than read from the server
+ *
+ * @param <T> the result type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ListCursor<T> implements MongoCursor<T> {
+    private final Iterator<T> results;
+
+    /**
+     * Creates a cursor
+     *
+     * @param results the results
+     */
+    public ListCursor(List<T> results) {
+        this.results = results.iterator();
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean hasNext() {
+        return results.hasNext();
+    }
+
+    @Override
+    public T next() {
+        return results.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return results.hasNext() ? results.next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+}
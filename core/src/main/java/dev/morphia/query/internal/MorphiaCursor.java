@@ -4,6 +4,7 @@ package dev.morphia.query.internal;
 import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCursor;
+import dev.morphia.mapping.experimental.ReferenceBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +16,7 @@ import java.util.NoSuchElementException;
  */
 public class MorphiaCursor<T> implements MongoCursor<T> {
     private final MongoCursor<T> wrapped;
+    private final ReferenceBatch references;
 
     /**
      * Creates a MorphiaCursor
@@ -22,7 +24,20 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
      * @param cursor the Iterator to use
      */
     public MorphiaCursor(MongoCursor<T> cursor) {
+        this(cursor, null);
+    }
+
+    /**
+     * Creates a MorphiaCursor which resolves the references of each batch of results together
+     *
+     * @param cursor     the Iterator to use
+     * @param references the batch to collect references in or null to resolve them individually
+     * @morphia.internal
+     * @since 2.2
+     */
+    public MorphiaCursor(MongoCursor<T> cursor, ReferenceBatch references) {
         wrapped = cursor;
+        this.references = references;
         if (wrapped == null) {
             throw new IllegalArgumentException("The wrapped cursor can not be null");
         }
@@ -36,7 +51,7 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
     public List<T> toList() {
         final List<T> results = new ArrayList<>();
         try {
-            while (wrapped.hasNext()) {
+            while (hasNext()) {
                 results.add(next());
             }
         } finally {
@@ -59,7 +74,7 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         if (wrapped == null) {
             return false;
         }
-        return wrapped.hasNext();
+        return references != null ? references.resolve(wrapped::hasNext) : wrapped.hasNext();
     }
 
     @Override
@@ -67,7 +82,7 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return wrapped.next();
+        return references != null ? references.resolve(wrapped::next) : wrapped.next();
     }
 
     @Override
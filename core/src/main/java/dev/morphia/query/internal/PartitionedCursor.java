@@ -0,0 +1,208 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Scans a query in several contiguous {@code _id} ranges at once, each on its own cursor and thread, and merges the results.  Results
+ * arrive in no particular order.  Each range is read ahead into a bounded buffer so a slow consumer holds the scans back rather than
+ * filling memory.
+ *
+ * @param <T> the result type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class PartitionedCursor<T> implements MongoCursor<T> {
+    private static final int SAMPLES_PER_PARTITION = 20;
+    private static final int BUFFER_PER_PARTITION = 256;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+    private static final Object DONE = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final ExecutorService workers;
+    private final int partitions;
+    private int finished;
+    private T next;
+    private volatile boolean closed;
+
+    /**
+     * Starts scanning the ranges
+     *
+     * @param ranges the range filters, e.g. as found by {@link #ranges(MongoCollection, Document, int)}
+     * @param open   opens the cursor for a range.  This is called on the thread which reads that range.
+     */
+    public PartitionedCursor(List<Document> ranges, Function<Document, MongoCursor<T>> open) {
+        partitions = ranges.size();
+        queue = new ArrayBlockingQueue<>(partitions * BUFFER_PER_PARTITION);
+        workers = Executors.newFixedThreadPool(partitions, runnable -> {
+            Thread thread = new Thread(runnable, "morphia-partition-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (Document range : ranges) {
+            workers.execute(() -> scan(range, open));
+        }
+        workers.shutdown();
+    }
+
+    /**
+     * Splits the {@code _id} values matching a query into contiguous ranges of roughly equal size.  The boundaries are taken from a
+     * sorted {@code $sample} of the matching ids.  A query which can't be sampled, e.g. one using {@code $near}, or ids of mixed types
+     * result in a single range.  Comparisons only match ids of the boundaries' type so the first range also takes every id of another
+     * type the sample missed.
+     *
+     * @param collection the collection to sample
+     * @param query      the query
+     * @param partitions the number of ranges wanted
+     * @return the range filters, at most {@code partitions} of them
+     */
+    public static List<Document> ranges(MongoCollection<?> collection, Document query, int partitions) {
+        List<Object> bounds = new ArrayList<>();
+        if (partitions > 1) {
+            List<Document> sample;
+            try {
+                sample = collection.aggregate(List.of(new Document("$match", query),
+                    new Document("$sample", new Document("size", partitions * SAMPLES_PER_PARTITION)),
+                    new Document("$project", new Document("_id", 1)),
+                    new Document("$sort", new Document("_id", 1))), Document.class)
+                                   .into(new ArrayList<>());
+            } catch (MongoCommandException e) {
+                // not every query is allowed in $match, e.g. $near and $where
+                sample = List.of();
+            }
+
+            if (!sample.isEmpty()) {
+                Object first = sample.get(0).get("_id");
+                Object last = sample.get(sample.size() - 1).get("_id");
+                // ids sort by type first so the same type at both ends means every sampled id has it.  ranges only match one type.
+                if (first != null && last != null && first.getClass().equals(last.getClass())) {
+                    for (int i = 1; i < partitions; i++) {
+                        Object bound = sample.get(i * sample.size() / partitions).get("_id");
+                        if (bounds.isEmpty() || !Objects.equals(bounds.get(bounds.size() - 1), bound)) {
+                            bounds.add(bound);
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Document> ranges = new ArrayList<>();
+        if (bounds.isEmpty()) {
+            ranges.add(new Document());
+            return ranges;
+        }
+        Object lower = bounds.get(0);
+        ranges.add(new Document("_id", new Document("$not", new Document("$gte", lower))));
+        for (Object bound : bounds.subList(1, bounds.size())) {
+            ranges.add(new Document("_id", new Document("$gte", lower).append("$lt", bound)));
+            lower = bound;
+        }
+        ranges.add(new Document("_id", new Document("$gte", lower)));
+        return ranges;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        workers.shutdownNow();
+        queue.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean hasNext() {
+        while (next == null && !closed && finished < partitions) {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new MongoInterruptedException("Interrupted while waiting for the next result", e);
+            }
+            if (item == DONE) {
+                finished++;
+            } else if (item instanceof Failure) {
+                close();
+                throw ((Failure) item).error;
+            } else {
+                next = (T) item;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    /**
+     * @return null as the results come from several server cursors
+     */
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    /**
+     * @return null as the results may come from several servers
+     */
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+
+    private void scan(Document range, Function<Document, MongoCursor<T>> open) {
+        try (MongoCursor<T> cursor = open.apply(range)) {
+            while (!closed && cursor.hasNext()) {
+                queue.put(cursor.next());
+            }
+            queue.put(DONE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            if (!closed) {
+                try {
+                    queue.put(new Failure(e));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private static final class Failure {
+        private final RuntimeException error;
+
+        private Failure(RuntimeException error) {
+            this.error = error;
+        }
+    }
+}
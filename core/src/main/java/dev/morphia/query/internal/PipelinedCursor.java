@@ -0,0 +1,166 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import org.bson.RawBsonDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Reads the raw results of a cursor on a background thread and decodes them a batch at a time on a shared worker pool so that fetching,
+ * decoding and consuming the results overlap.  Decoded batches are handed back in the order they were read and at most a fixed number
+ * of them are held ahead of the consumer.
+ *
+ * @param <T> the result type
+ * @morphia.internal
+ * @since 2.2
+ */
+public class PipelinedCursor<T> implements MongoCursor<T> {
+    private static final int DEFAULT_BATCH_SIZE = 101;
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    private final BlockingQueue<CompletableFuture<List<T>>> batches;
+    private final CompletableFuture<List<T>> end = CompletableFuture.completedFuture(Collections.emptyList());
+    private final Thread fetcher;
+    private final ServerAddress serverAddress;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean exhausted;
+    private volatile boolean closed;
+
+    /**
+     * Starts fetching
+     *
+     * @param raw       the cursor over the raw results.  It is read and closed by the fetching thread.
+     * @param batchSize the number of documents to decode together or 0 for the server's default first batch size
+     * @param inFlight  the maximum number of batches to hold ahead of the one being read
+     * @param decoder   decodes a batch of documents
+     */
+    public PipelinedCursor(MongoCursor<RawBsonDocument> raw, int batchSize, int inFlight,
+                           Function<List<RawBsonDocument>, List<T>> decoder) {
+        batches = new ArrayBlockingQueue<>(Math.max(1, inFlight));
+        serverAddress = raw.getServerAddress();
+        int size = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        fetcher = new Thread(() -> fetch(raw, size, decoder), "morphia-fetcher-" + THREADS.incrementAndGet());
+        fetcher.setDaemon(true);
+        fetcher.start();
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            fetcher.interrupt();
+            batches.clear();
+            current = Collections.emptyIterator();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (exhausted || closed) {
+                return false;
+            }
+            try {
+                CompletableFuture<List<T>> batch = batches.take();
+                if (batch == end) {
+                    exhausted = true;
+                    return false;
+                }
+                current = batch.get().iterator();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new MongoInterruptedException("Interrupted while waiting for the next batch", e);
+            } catch (ExecutionException e) {
+                close();
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new MongoException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    /**
+     * @return null as the server cursor is read on another thread
+     */
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    private void fetch(MongoCursor<RawBsonDocument> raw, int batchSize, Function<List<RawBsonDocument>, List<T>> decoder) {
+        try (raw) {
+            List<RawBsonDocument> batch = new ArrayList<>(batchSize);
+            while (!closed && raw.hasNext()) {
+                batch.add(raw.next());
+                if (batch.size() == batchSize) {
+                    submit(batch, decoder);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, decoder);
+            }
+            batches.put(end);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            if (!closed) {
+                try {
+                    batches.put(CompletableFuture.failedFuture(e));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private void submit(List<RawBsonDocument> batch, Function<List<RawBsonDocument>, List<T>> decoder) throws InterruptedException {
+        batches.put(CompletableFuture.supplyAsync(() -> decoder.apply(batch), Decoders.POOL));
+    }
+
+    private static final class Decoders {
+        private static final AtomicInteger THREADS = new AtomicInteger();
+        private static final ExecutorService POOL = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "morphia-decoder-" + THREADS.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
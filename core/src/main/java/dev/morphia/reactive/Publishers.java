@@ -0,0 +1,146 @@
+package dev.morphia.reactive;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The few publisher adaptations the reactive datastore needs so that Morphia does not have to depend on a reactive library.
+ */
+final class Publishers {
+    private Publishers() {
+    }
+
+    /**
+     * Defers building a publisher until it is subscribed to.  Mapping errors raised while building the operation are then reported to
+     * the subscriber rather than thrown to the caller and each subscription runs the operation anew.
+     *
+     * @param supplier builds the publisher
+     * @param <T>      the item type
+     * @return the deferred publisher
+     */
+    static <T> Publisher<T> defer(Supplier<Publisher<T>> supplier) {
+        return subscriber -> {
+            Publisher<T> publisher;
+            try {
+                publisher = supplier.get();
+            } catch (RuntimeException e) {
+                subscriber.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(e);
+                return;
+            }
+            publisher.subscribe(subscriber);
+        };
+    }
+
+    /**
+     * Transforms the items of a publisher.  An exception thrown by the mapping cancels the source and is passed on as the error.
+     *
+     * @param source the source publisher
+     * @param mapper transforms each item
+     * @param <T>    the source item type
+     * @param <R>    the result item type
+     * @return the mapped publisher
+     */
+    static <T, R> Publisher<R> map(Publisher<T> source, Function<? super T, ? extends R> mapper) {
+        return map(source, mapper, Function.identity());
+    }
+
+    /**
+     * Transforms the items and the error of a publisher.
+     *
+     * @param source  the source publisher
+     * @param mapper  transforms each item
+     * @param onError transforms the error
+     * @param <T>     the source item type
+     * @param <R>     the result item type
+     * @return the mapped publisher
+     */
+    static <T, R> Publisher<R> map(Publisher<T> source, Function<? super T, ? extends R> mapper,
+                                   Function<Throwable, Throwable> onError) {
+        return subscriber -> source.subscribe(new MappingSubscriber<>(subscriber, mapper, onError, () -> {
+        }));
+    }
+
+    /**
+     * Runs an action once a publisher completes or fails, before the subscriber is told.
+     *
+     * @param source the source publisher
+     * @param onDone the action to run
+     * @param <T>    the item type
+     * @return the publisher
+     */
+    static <T> Publisher<T> whenDone(Publisher<T> source, Runnable onDone) {
+        return subscriber -> source.subscribe(new MappingSubscriber<T, T>(subscriber, Function.identity(), Function.identity(), onDone));
+    }
+
+    private static final class MappingSubscriber<T, R> implements Subscriber<T> {
+        private final Subscriber<? super R> downstream;
+        private final Function<? super T, ? extends R> mapper;
+        private final Function<Throwable, Throwable> onError;
+        private final Runnable onDone;
+        private Subscription subscription;
+        private boolean done;
+
+        private MappingSubscriber(Subscriber<? super R> downstream, Function<? super T, ? extends R> mapper,
+                                  Function<Throwable, Throwable> onError, Runnable onDone) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.onError = onError;
+            this.onDone = onDone;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (done) {
+                return;
+            }
+            R mapped;
+            try {
+                mapped = mapper.apply(item);
+            } catch (RuntimeException e) {
+                done = true;
+                subscription.cancel();
+                onDone.run();
+                downstream.onError(e);
+                return;
+            }
+            downstream.onNext(mapped);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                onDone.run();
+                downstream.onError(onError.apply(throwable));
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                onDone.run();
+                downstream.onComplete();
+            }
+        }
+    }
+}
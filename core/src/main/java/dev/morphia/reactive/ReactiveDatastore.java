@@ -0,0 +1,105 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.result.DeleteResult;
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.aggregation.experimental.stages.Stage;
+import dev.morphia.mapping.Mapper;
+import org.reactivestreams.Publisher;
+
+/**
+ * A Datastore whose operations return reactive streams {@code Publisher}s rather than blocking for their results.  It shares the
+ * {@link Mapper} of the Datastore it was created from so entities, filters, update operators and aggregation stages work the same way
+ * in both.  Nothing is sent to the server until a publisher is subscribed to.
+ * <p>
+ * Client sessions set on the options are not supported and are ignored.  References are resolved through the blocking Datastore.
+ *
+ * @see dev.morphia.Morphia#createReactiveDatastore(com.mongodb.reactivestreams.client.MongoClient, dev.morphia.Datastore)
+ * @since 2.2
+ */
+public interface ReactiveDatastore {
+    /**
+     * Runs an aggregation
+     *
+     * @param source     the entity type to aggregate
+     * @param resultType the type of the results
+     * @param stages     the pipeline stages
+     * @param <S>        the source type
+     * @param <R>        the result type
+     * @return the results
+     */
+    <S, R> Publisher<R> aggregate(Class<S> source, Class<R> resultType, Stage... stages);
+
+    /**
+     * Deletes the given entity by its ID
+     *
+     * @param entity the entity to delete
+     * @param <T>    the entity type
+     * @return the results of the delete
+     */
+    <T> Publisher<DeleteResult> delete(T entity);
+
+    /**
+     * Deletes the given entity by its ID
+     *
+     * @param entity  the entity to delete
+     * @param options the options to use
+     * @param <T>     the entity type
+     * @return the results of the delete
+     */
+    <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options);
+
+    /**
+     * Starts a query on a type.  Filters, updates and deletes are defined and run through the returned query.
+     *
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the new query
+     */
+    <T> ReactiveQuery<T> find(Class<T> type);
+
+    /**
+     * @return the Mapper shared with the Datastore
+     */
+    Mapper getMapper();
+
+    /**
+     * Inserts an entity.  An ID is generated if the entity has none.
+     *
+     * @param entity the entity to insert
+     * @param <T>    the entity type
+     * @return the inserted entity
+     */
+    <T> Publisher<T> insert(T entity);
+
+    /**
+     * Inserts an entity.  An ID is generated if the entity has none.
+     *
+     * @param entity  the entity to insert
+     * @param options the options to use
+     * @param <T>     the entity type
+     * @return the inserted entity
+     */
+    <T> Publisher<T> insert(T entity, InsertOneOptions options);
+
+    /**
+     * Saves an entity, inserting it if it is new and replacing it otherwise.  Versioned entities are checked for concurrent
+     * modification as with {@link dev.morphia.Datastore#save(Object)}.
+     *
+     * @param entity the entity to save
+     * @param <T>    the entity type
+     * @return the saved entity
+     */
+    <T> Publisher<T> save(T entity);
+
+    /**
+     * Saves an entity, inserting it if it is new and replacing it otherwise.  Versioned entities are checked for concurrent
+     * modification as with {@link dev.morphia.Datastore#save(Object)}.
+     *
+     * @param entity  the entity to save
+     * @param options the options to use
+     * @param <T>     the entity type
+     * @return the saved entity
+     */
+    <T> Publisher<T> save(T entity, InsertOneOptions options);
+}
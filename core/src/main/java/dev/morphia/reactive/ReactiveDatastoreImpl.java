@@ -0,0 +1,258 @@
+package dev.morphia.reactive;
+
+import com.mongodb.MongoWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import dev.morphia.Datastore;
+import dev.morphia.DeleteOptions;
+import dev.morphia.InsertOneOptions;
+import dev.morphia.aggregation.experimental.stages.Stage;
+import dev.morphia.annotations.Entity;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.query.UpdateException;
+import dev.morphia.query.ValidationException;
+import dev.morphia.sofia.Sofia;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.reactivestreams.Publisher;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.function.Function;
+
+import static dev.morphia.reactive.Publishers.defer;
+import static dev.morphia.reactive.Publishers.map;
+import static dev.morphia.reactive.Publishers.whenDone;
+
+/**
+ * A reactive datastore sharing the mapping of a blocking one
+ *
+ * @morphia.internal
+ * @since 2.2
+ */
+public class ReactiveDatastoreImpl implements ReactiveDatastore {
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final MongoDatabase database;
+
+    /**
+     * Creates a reactive datastore
+     *
+     * @param mongoClient the reactive client
+     * @param datastore   the datastore whose mapper and database to use
+     */
+    public ReactiveDatastoreImpl(MongoClient mongoClient, Datastore datastore) {
+        this.datastore = datastore;
+        this.mapper = datastore.getMapper();
+        this.database = mongoClient.getDatabase(datastore.getDatabase().getName())
+                                   .withCodecRegistry(mapper.getCodecRegistry());
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <S, R> Publisher<R> aggregate(Class<S> source, Class<R> resultType, Stage... stages) {
+        return defer(() -> {
+            List<Document> pipeline = new ArrayList<>();
+            for (Stage stage : stages) {
+                Codec codec = mapper.getCodecRegistry().get(stage.getClass());
+                DocumentWriter writer = new DocumentWriter();
+                codec.encode(writer, stage, EncoderContext.builder().build());
+                pipeline.add(writer.getDocument());
+            }
+            return getCollection(source).aggregate(pipeline, resultType);
+        });
+    }
+
+    @Override
+    public <T> Publisher<DeleteResult> delete(T entity) {
+        return delete(entity, new DeleteOptions().writeConcern(mapper.getWriteConcern(entity.getClass())));
+    }
+
+    @Override
+    public <T> Publisher<DeleteResult> delete(T entity, DeleteOptions options) {
+        if (entity instanceof Class<?>) {
+            throw new MappingException("Did you mean to delete all documents? -- ds.find(???.class).delete()");
+        }
+        return defer(() -> {
+            MongoCollection<?> collection = prepare(getCollection(entity.getClass()), options.writeConcern());
+            Document filter = new Document("_id", mapper.getId(entity));
+            return invalidating(collection, filter, collection.deleteOne(filter, options));
+        });
+    }
+
+    @Override
+    public <T> ReactiveQuery<T> find(Class<T> type) {
+        return new ReactiveQuery<>(this, datastore.find(type), type);
+    }
+
+    @Override
+    public Mapper getMapper() {
+        return mapper;
+    }
+
+    @Override
+    public <T> Publisher<T> insert(T entity) {
+        return insert(entity, new InsertOneOptions());
+    }
+
+    @Override
+    public <T> Publisher<T> insert(T entity, InsertOneOptions options) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        return defer(() -> {
+            FieldModel versionField = mapper.getEntityModel(entity.getClass()).getVersionField();
+            if (versionField != null) {
+                Object value = versionField.getValue(entity);
+                if (value != null && !value.equals(0)) {
+                    throw new ValidationException(Sofia.versionManuallySet());
+                }
+                versionField.setValue(entity, 1L);
+            }
+            MongoCollection<T> collection = collection(entity, options);
+            return invalidatingId(collection, entity, map(collection.insertOne(entity, options.getOptions()), result -> entity));
+        });
+    }
+
+    @Override
+    public <T> Publisher<T> save(T entity) {
+        return save(entity, new InsertOneOptions());
+    }
+
+    @Override
+    public <T> Publisher<T> save(T entity, InsertOneOptions options) {
+        if (entity == null) {
+            throw new UpdateException(Sofia.cannotPersistNullEntity());
+        }
+        return defer(() -> {
+            EntityModel model = mapper.getEntityModel(entity.getClass());
+            MongoCollection<T> collection = collection(entity, options);
+            Object id = model.getIdField().getValue(entity);
+            FieldModel versionField = model.getVersionField();
+            Publisher<T> write;
+            if (versionField != null) {
+                write = saveVersioned(entity, collection, options, id, versionField);
+            } else if (id == null) {
+                write = map(collection.insertOne(entity, options.getOptions()), result -> entity);
+            } else {
+                write = map(collection.replaceOne(new Document("_id", id), entity, replaceOptions(options).upsert(true)), result -> entity);
+            }
+            return invalidatingId(collection, entity, write);
+        });
+    }
+
+    /**
+     * @param type the entity type
+     * @param <T>  the entity type
+     * @return the reactive collection mapped for the type
+     */
+    <T> MongoCollection<T> getCollection(Class<T> type) {
+        EntityModel model = mapper.getEntityModel(type);
+        if (model == null) {
+            throw new MappingException(Sofia.notMappable(type.getName()));
+        }
+        if (model.getCollectionName() == null) {
+            throw new MappingException(Sofia.noMappedCollection(type.getName()));
+        }
+
+        MongoCollection<T> collection = database.getCollection(model.getCollectionName(), type);
+        Entity annotation = model.getEntityAnnotation();
+        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
+            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        }
+        return collection;
+    }
+
+    /**
+     * @return the blocking datastore this one shares its mapping with
+     */
+    Datastore getDatastore() {
+        return datastore;
+    }
+
+    /**
+     * Applies the write concern of an operation's options, if any
+     *
+     * @param collection   the collection
+     * @param writeConcern the write concern or null
+     * @param <T>          the collection type
+     * @return the collection to use
+     */
+    static <T> MongoCollection<T> prepare(MongoCollection<T> collection, WriteConcern writeConcern) {
+        return writeConcern == null ? collection : collection.withWriteConcern(writeConcern);
+    }
+
+    /**
+     * Drops the cached copies of the documents a write may change before it is sent and again once it is done, as the blocking writes
+     * do.
+     *
+     * @param collection the collection written to
+     * @param query      the query selecting the documents written
+     * @param write      the write
+     * @param <R>        the result type
+     * @return the write
+     */
+    <R> Publisher<R> invalidating(MongoCollection<?> collection, Document query, Publisher<R> write) {
+        String name = collection.getNamespace().getCollectionName();
+        IdentityMap.invalidate(datastore, name, query);
+        return whenDone(write, () -> mapper.invalidate(name, query));
+    }
+
+    /**
+     * Drops the cached copy of an entity once it is written.  Its id is only read then since writing may have generated it.
+     */
+    private <R> Publisher<R> invalidatingId(MongoCollection<?> collection, Object entity, Publisher<R> write) {
+        return whenDone(write, () -> mapper.invalidate(collection.getNamespace().getCollectionName(),
+            new Document("_id", mapper.getId(entity))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> MongoCollection<T> collection(T entity, InsertOneOptions options) {
+        return prepare(getCollection((Class<T>) entity.getClass()), options.writeConcern());
+    }
+
+    private ReplaceOptions replaceOptions(InsertOneOptions options) {
+        return new ReplaceOptions().bypassDocumentValidation(options.getBypassDocumentValidation());
+    }
+
+    private <T> Publisher<T> saveVersioned(T entity, MongoCollection<T> collection, InsertOneOptions options, Object id,
+                                           FieldModel versionField) {
+        Long oldVersion = (Long) versionField.getValue(entity);
+        long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+        ConcurrentModificationException conflict = new ConcurrentModificationException(
+            Sofia.concurrentModification(entity.getClass().getName(), id));
+
+        versionField.setValue(entity, newVersion);
+        if (newVersion == 1) {
+            return map(collection.insertOne(entity, options.getOptions()), result -> entity, e -> {
+                versionField.setValue(entity, oldVersion);
+                return e instanceof MongoWriteException ? conflict : e;
+            });
+        }
+
+        Document filter = new Document("_id", id).append(versionField.getMappedName(), oldVersion);
+        Function<UpdateResult, T> check = result -> {
+            if (result.getMatchedCount() != 1) {
+                versionField.setValue(entity, oldVersion);
+                throw conflict;
+            }
+            return entity;
+        };
+        return map(collection.replaceOne(filter, entity, replaceOptions(options)), check, e -> {
+            versionField.setValue(entity, oldVersion);
+            return e;
+        });
+    }
+}
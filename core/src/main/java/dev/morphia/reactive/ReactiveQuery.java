@@ -0,0 +1,237 @@
+package dev.morphia.reactive;
+
+import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import dev.morphia.DeleteOptions;
+import dev.morphia.ModifyOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.Query;
+import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.experimental.updates.UpdateOperator;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
+
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.reactive.Publishers.defer;
+import static dev.morphia.reactive.ReactiveDatastoreImpl.prepare;
+
+/**
+ * Defines a query run through a {@link ReactiveDatastore}.  Filters and updates are mapped exactly as they are for a blocking
+ * {@link Query}.
+ *
+ * @param <T> the entity type
+ * @since 2.2
+ */
+public class ReactiveQuery<T> {
+    private final ReactiveDatastoreImpl datastore;
+    private final Query<T> query;
+    private final Class<T> type;
+
+    ReactiveQuery(ReactiveDatastoreImpl datastore, Query<T> query, Class<T> type) {
+        this.datastore = datastore;
+        this.query = query;
+        this.type = type;
+    }
+
+    /**
+     * Counts the matching documents
+     *
+     * @return the count
+     */
+    public Publisher<Long> count() {
+        return defer(() -> datastore.getCollection(type).countDocuments(query.toDocument(), new CountOptions()));
+    }
+
+    /**
+     * Deletes the first matching document
+     *
+     * @return the results
+     */
+    public Publisher<DeleteResult> delete() {
+        return delete(new DeleteOptions());
+    }
+
+    /**
+     * Deletes the matching documents
+     *
+     * @param options the options to apply.  {@link DeleteOptions#multi(boolean)} deletes every match.
+     * @return the results
+     */
+    public Publisher<DeleteResult> delete(DeleteOptions options) {
+        return defer(() -> {
+            MongoCollection<T> collection = prepare(datastore.getCollection(type), options.writeConcern());
+            Document filter = query.toDocument();
+            return datastore.invalidating(collection, filter,
+                options.isMulti() ? collection.deleteMany(filter, options) : collection.deleteOne(filter, options));
+        });
+    }
+
+    /**
+     * Disables validation of field names
+     *
+     * @return this
+     */
+    public ReactiveQuery<T> disableValidation() {
+        query.disableValidation();
+        return this;
+    }
+
+    /**
+     * Finds the matching entities
+     *
+     * @return the results
+     */
+    public Publisher<T> execute() {
+        return execute(new FindOptions());
+    }
+
+    /**
+     * Finds the matching entities
+     *
+     * @param options the options to apply
+     * @return the results
+     */
+    public Publisher<T> execute(FindOptions options) {
+        return defer(() -> apply(find(options), options));
+    }
+
+    /**
+     * Adds filters to this query
+     *
+     * @param filters the filters
+     * @return this
+     */
+    public ReactiveQuery<T> filter(Filter... filters) {
+        query.filter(filters);
+        return this;
+    }
+
+    /**
+     * Finds the first matching entity
+     *
+     * @return the result, if any
+     */
+    public Publisher<T> first() {
+        return first(new FindOptions());
+    }
+
+    /**
+     * Finds the first matching entity
+     *
+     * @param options the options to apply
+     * @return the result, if any
+     */
+    public Publisher<T> first(FindOptions options) {
+        return defer(() -> apply(find(options), options).first());
+    }
+
+    /**
+     * Updates the first matching document and returns the entity
+     *
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return the entity before or after the update as selected by the options
+     */
+    public Publisher<T> modify(UpdateOperator first, UpdateOperator... updates) {
+        return modify(new ModifyOptions(), first, updates);
+    }
+
+    /**
+     * Updates the first matching document and returns the entity
+     *
+     * @param options the options to apply
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return the entity before or after the update as selected by the options
+     */
+    public Publisher<T> modify(ModifyOptions options, UpdateOperator first, UpdateOperator... updates) {
+        return defer(() -> {
+            Bson update = query.modify(first, updates).toBson();
+            MongoCollection<T> collection = prepare(datastore.getCollection(type), options.writeConcern());
+            Document filter = query.toDocument();
+            return datastore.invalidating(collection, filter, collection.findOneAndUpdate(filter, update, options));
+        });
+    }
+
+    /**
+     * Updates the matching documents
+     *
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return the results
+     */
+    public Publisher<UpdateResult> update(UpdateOperator first, UpdateOperator... updates) {
+        return update(new UpdateOptions(), first, updates);
+    }
+
+    /**
+     * Updates the matching documents
+     *
+     * @param options the options to apply.  {@link UpdateOptions#multi(boolean)} updates every match.
+     * @param first   the first update operator
+     * @param updates the other update operators
+     * @return the results
+     */
+    public Publisher<UpdateResult> update(UpdateOptions options, UpdateOperator first, UpdateOperator... updates) {
+        return defer(() -> {
+            Bson update = query.update(first, updates).toBson();
+            MongoCollection<T> collection = prepare(datastore.getCollection(type), options.writeConcern());
+            Document filter = query.toDocument();
+            return datastore.invalidating(collection, filter, options.isMulti() ? collection.updateMany(filter, update, options)
+                                                                                : collection.updateOne(filter, update, options));
+        });
+    }
+
+    @Override
+    public String toString() {
+        return query.toString();
+    }
+
+    private FindPublisher<T> find(FindOptions options) {
+        MongoCollection<T> collection = datastore.getCollection(type);
+        if (options.getReadPreference() != null) {
+            collection = collection.withReadPreference(options.getReadPreference());
+        }
+        if (options.getReadConcern() != null) {
+            collection = collection.withReadConcern(options.getReadConcern());
+        }
+        return collection.find(query.toDocument());
+    }
+
+    private FindPublisher<T> apply(FindPublisher<T> publisher, FindOptions options) {
+        Mapper mapper = datastore.getMapper();
+        if (options.getProjection() != null) {
+            publisher.projection(options.getProjection().map(mapper, type));
+        }
+        if (options.getBatchSize() != 0) {
+            publisher.batchSize(options.getBatchSize());
+        }
+        publisher.collation(options.getCollation());
+        publisher.comment(options.getComment());
+        if (options.getCursorType() != null) {
+            publisher.cursorType(options.getCursorType());
+        }
+        publisher.hint(options.getHint());
+        publisher.hintString(options.getHintString());
+        publisher.limit(options.getLimit());
+        publisher.max(options.getMax());
+        publisher.maxAwaitTime(options.getMaxAwaitTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.maxTime(options.getMaxTime(TimeUnit.MILLISECONDS), TimeUnit.MILLISECONDS);
+        publisher.min(options.getMin());
+        publisher.noCursorTimeout(options.isNoCursorTimeout());
+        publisher.oplogReplay(options.isOplogReplay());
+        publisher.partial(options.isPartial());
+        publisher.returnKey(options.isReturnKey());
+        publisher.showRecordId(options.isShowRecordId());
+        publisher.skip(options.getSkip());
+        publisher.sort(options.mapSort(mapper, type));
+        return publisher;
+    }
+}
@@ -18,6 +18,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.query.DefaultQueryFactory;
 import dev.morphia.query.LegacyQueryFactory;
+import dev.morphia.test.models.Book;
 import org.bson.Document;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -198,6 +199,21 @@ public abstract class TestBase {
         collection.insertMany(list);
     }
 
+    /**
+     * Saves numbered books with {@code copies} running from 0 to {@code count - 1}
+     *
+     * @param count the number of books to save
+     * @return the saved books
+     */
+    protected List<Book> saveBooks(int count) {
+        getMapper().map(Book.class);
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            books.add(new Book("book " + i, null, i));
+        }
+        return getDs().save(books);
+    }
+
     /**
      * @param version must be a major version, e.g. 1.8, 2,0, 2.2
      * @return true if server is at least specified version
@@ -0,0 +1,102 @@
+package dev.morphia.test;
+
+import dev.morphia.BulkOptions;
+import dev.morphia.BulkResult;
+import dev.morphia.BulkResult.OperationResult;
+import dev.morphia.BulkResult.OperationType;
+import dev.morphia.DeleteOptions;
+import dev.morphia.UpdateOptions;
+import dev.morphia.test.models.Book;
+import dev.morphia.test.models.FacebookUser;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestBulkOperations extends TestBase {
+    @Test
+    public void testMixedOperations() {
+        getMapper().map(Book.class, FacebookUser.class);
+        Book kept = getDs().save(new Book("kept", null, 1));
+        Book removed = getDs().save(new Book("removed", null, 2));
+        getDs().save(List.of(new FacebookUser(1, "first"), new FacebookUser(2, "second"), new FacebookUser(3, "third")));
+
+        kept.title = "renamed";
+        Book inserted = new Book("inserted", null, 10);
+        BulkResult result = getDs().bulk()
+                                   .insert(inserted)
+                                   .save(kept)
+                                   .update(getDs().find(Book.class).filter(gte("copies", 1)), new UpdateOptions().multi(true),
+                                       inc("copies", 100))
+                                   .delete(removed)
+                                   .delete(getDs().find(FacebookUser.class).filter(gte("_id", 2)), new DeleteOptions().multi(true))
+                                   .save(new FacebookUser(4, "fourth"))
+                                   .execute();
+
+        assertTrue(result.isSuccessful(), result.toString());
+        assertEquals(result.getInsertedCount(), 1);
+        assertEquals(result.getDeletedCount(), 3);
+        assertEquals(result.getMatchedCount(), 4);
+        List<OperationResult> results = result.getResults();
+        assertEquals(results.size(), 6);
+        assertEquals(results.get(0).getType(), OperationType.INSERT);
+        assertEquals(results.get(1).getType(), OperationType.REPLACE);
+        assertEquals(results.get(5).getCollection(), "facebook_users");
+        assertNotNull(results.get(5).getUpsertedId());
+
+        assertNotNull(inserted.id);
+        assertEquals(getDs().find(Book.class).filter(eq("_id", kept.id)).first().title, "renamed");
+        assertEquals(getDs().find(Book.class).filter(eq("_id", inserted.id)).first().copies.intValue(), 110);
+        assertNull(getDs().find(Book.class).filter(eq("_id", removed.id)).first());
+        assertEquals(getDs().find(FacebookUser.class).count(), 2);
+    }
+
+    @Test
+    public void testOrderedStopsAtFailure() {
+        getMapper().map(Book.class, FacebookUser.class);
+        getDs().save(new FacebookUser(1, "first"));
+
+        BulkResult result = getDs().bulk()
+                                   .insert(new FacebookUser(2, "second"))
+                                   .insert(new FacebookUser(1, "duplicate"))
+                                   .insert(new FacebookUser(3, "third"))
+                                   .insert(new Book("book", null, 1))
+                                   .execute();
+
+        assertFalse(result.isSuccessful());
+        List<OperationResult> results = result.getResults();
+        assertTrue(results.get(0).isSuccessful());
+        assertNotNull(results.get(1).getError());
+        assertFalse(results.get(2).isExecuted());
+        assertFalse(results.get(3).isExecuted());
+        assertEquals(result.getFailures().size(), 3);
+        assertEquals(getDs().find(FacebookUser.class).count(), 2);
+        assertEquals(getDs().find(Book.class).count(), 0);
+    }
+
+    @Test
+    public void testUnorderedContinuesPastFailure() {
+        getMapper().map(Book.class, FacebookUser.class);
+        getDs().save(new FacebookUser(1, "first"));
+
+        BulkResult result = getDs().bulk()
+                                   .insert(new FacebookUser(1, "duplicate"))
+                                   .insert(new Book("book", null, 1))
+                                   .insert(new FacebookUser(2, "second"))
+                                   .execute(new BulkOptions().ordered(false));
+
+        assertEquals(result.getFailures().size(), 1);
+        assertEquals(result.getFailures().get(0).getIndex(), 0);
+        assertEquals(result.getInsertedCount(), 2);
+        assertEquals(getDs().find(FacebookUser.class).count(), 2);
+        assertEquals(getDs().find(Book.class).count(), 1);
+    }
+}
@@ -4,9 +4,12 @@ import com.mongodb.client.model.Collation;
 import com.mongodb.client.model.CollationStrength;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
+import dev.morphia.Datastore;
 import dev.morphia.DeleteOptions;
 import dev.morphia.ModifyOptions;
+import dev.morphia.Morphia;
 import dev.morphia.UpdateOptions;
+import dev.morphia.mapping.MapperOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
@@ -14,6 +17,7 @@ import dev.morphia.query.Update;
 import dev.morphia.test.models.City;
 import dev.morphia.test.models.CurrentStatus;
 import dev.morphia.test.models.FacebookUser;
+import org.bson.Document;
 import org.testng.annotations.Test;
 
 import static com.mongodb.client.model.ReturnDocument.AFTER;
@@ -23,6 +27,7 @@ import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static java.util.Arrays.asList;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertTrue;
@@ -210,6 +215,75 @@ class TestDatastore extends TestBase {
 
     }
 
+    @Test
+    public void testTrackedChanges() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(FacebookUser.class);
+        datastore.save(new FacebookUser(1, "Steve"));
+
+        FacebookUser steve = datastore.find(FacebookUser.class).first();
+        getDocumentCollection(FacebookUser.class).updateOne(new Document("_id", 1L),
+            new Document("$set", new Document("loginCount", 10)));
+
+        datastore.save(steve);
+        assertEquals(getDocumentCollection(FacebookUser.class).find().first().getInteger("loginCount"), Integer.valueOf(10));
+
+        steve.username = "Mark";
+        datastore.save(steve);
+        Document stored = getDocumentCollection(FacebookUser.class).find().first();
+        assertEquals(stored.getString("username"), "Mark");
+        assertEquals(stored.getInteger("loginCount"), Integer.valueOf(10));
+
+        steve.username = null;
+        datastore.save(steve);
+        assertFalse(getDocumentCollection(FacebookUser.class).find().first().containsKey("username"));
+    }
+
+    @Test
+    public void testTrackedSaveAfterMerge() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(FacebookUser.class);
+        datastore.save(new FacebookUser(1, "Steve"));
+
+        FacebookUser steve = datastore.find(FacebookUser.class).first();
+        steve.username = null;
+        steve.loginCount = 5;
+        datastore.merge(steve);
+        Document stored = getDocumentCollection(FacebookUser.class).find().first();
+        assertEquals(stored.getString("username"), "Steve");
+        assertEquals(stored.getInteger("loginCount"), Integer.valueOf(5));
+
+        datastore.save(steve);
+        assertFalse(getDocumentCollection(FacebookUser.class).find().first().containsKey("username"));
+    }
+
+    @Test
+    public void testTrackedSaveAfterReplace() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(FacebookUser.class);
+        datastore.save(new FacebookUser(1, "Steve"));
+
+        FacebookUser steve = datastore.find(FacebookUser.class).first();
+        getDocumentCollection(FacebookUser.class).deleteMany(new Document());
+
+        steve.username = "Mark";
+        datastore.save(steve);
+        assertEquals(getDocumentCollection(FacebookUser.class).find().first().getString("username"), "Mark");
+
+        steve.username = "Steve";
+        datastore.save(steve);
+        assertEquals(getDocumentCollection(FacebookUser.class).find().first().getString("username"), "Steve");
+    }
+
     @Test
     public void testUpdateWithCollation() {
         getDs().save(asList(new FacebookUser(1, "John Doe"),
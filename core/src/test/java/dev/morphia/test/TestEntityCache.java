@@ -0,0 +1,232 @@
+package dev.morphia.test;
+
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Cached;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.cache.CacheInvalidator;
+import dev.morphia.cache.CachedCollection;
+import dev.morphia.cache.LruEntityCache;
+import dev.morphia.internal.IdQueries;
+import dev.morphia.mapping.MapperOptions;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+
+public class TestEntityCache extends TestBase {
+    @Test
+    public void testEviction() {
+        RawBsonDocument document = document(1);
+        long size = document.getByteBuffer().remaining();
+        LruEntityCache cache = new LruEntityCache(3 * size);
+        for (int i = 1; i <= 3; i++) {
+            cache.put("c", new BsonInt32(i), document(i), Duration.ofMinutes(1));
+        }
+        assertNotNull(cache.get("c", new BsonInt32(1)));
+
+        cache.put("c", new BsonInt32(4), document(4), Duration.ofMinutes(1));
+        assertEquals(cache.size(), 3);
+        assertEquals(cache.getBytes(), 3 * size);
+        assertNull(cache.get("c", new BsonInt32(2)));
+        assertNotNull(cache.get("c", new BsonInt32(1)));
+        assertNotNull(cache.get("c", new BsonInt32(4)));
+
+        cache.put("c", new BsonInt32(5), raw(new BsonDocument("_id", new BsonInt32(5))
+                                                 .append("padding", new BsonString("x".repeat((int) (3 * size))))), Duration.ofMinutes(1));
+        assertNull(cache.get("c", new BsonInt32(5)));
+        assertEquals(cache.size(), 3);
+
+        cache.put("other", new BsonInt32(1), document(1), Duration.ofMinutes(1));
+        cache.invalidate("c");
+        assertEquals(cache.size(), 1);
+        assertEquals(cache.getBytes(), size);
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        LruEntityCache cache = new LruEntityCache(1024);
+        cache.put("c", new BsonInt32(1), document(1), Duration.ofMillis(1));
+        cache.put("c", new BsonInt32(2), document(2), Duration.ofMinutes(1));
+        cache.put("c", new BsonInt32(3), document(3), Duration.ZERO);
+        assertEquals(cache.size(), 2);
+
+        Thread.sleep(10);
+        assertNull(cache.get("c", new BsonInt32(1)));
+        assertNotNull(cache.get("c", new BsonInt32(2)));
+        assertEquals(cache.size(), 1);
+    }
+
+    @Test
+    public void testInvalidator() throws InterruptedException {
+        assumeTrue(isReplicaSet(), "change streams need a replica set");
+        LruEntityCache cache = new LruEntityCache(1024 * 1024);
+        Datastore datastore = createDatastore(cache);
+        Profile profile = datastore.save(new Profile("first"));
+        try (CacheInvalidator invalidator = new CacheInvalidator(getDatabase(), cache).start()) {
+            datastore.find(Profile.class).filter(eq("_id", profile.id)).first();
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (cache.size() == 0 && System.currentTimeMillis() < deadline) {
+                // the invalidator clears the cache when it opens the change stream
+                Thread.sleep(50);
+                datastore.find(Profile.class).filter(eq("_id", profile.id)).first();
+            }
+            assertEquals(cache.size(), 1);
+
+            getDocumentCollection(Profile.class).updateOne(new Document("_id", profile.id),
+                new Document("$set", new Document("name", "bypassed")));
+            while (cache.size() != 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertEquals(datastore.find(Profile.class).filter(eq("_id", profile.id)).first().name, "bypassed");
+        }
+    }
+
+    @Test
+    public void testNumericIds() {
+        CodecRegistry registry = getMapper().getCodecRegistry();
+        assertEquals(CachedCollection.key(registry, 5), CachedCollection.key(registry, 5L));
+        assertEquals(CachedCollection.key(registry, new BsonDouble(5)), CachedCollection.key(registry, 5L));
+        assertEquals(CachedCollection.key(registry, new Decimal128(5)), CachedCollection.key(registry, 5L));
+        assertEquals(CachedCollection.key(registry, 5.5), new BsonDouble(5.5));
+        assertEquals(IdQueries.idsOf(new Document("_id", new Document("$in", List.of(5, 5L, 5.0, "5")))), List.of(5L, 5L, 5L, "5"));
+
+        LruEntityCache cache = new LruEntityCache(1024 * 1024);
+        Datastore datastore = createDatastore(cache);
+        datastore.getMapper().map(Counter.class);
+        datastore.save(new Counter(5L, "first"));
+
+        assertEquals(datastore.find(Counter.class).filter(eq("_id", 5L)).first().name, "first");
+        assertEquals(cache.size(), 1);
+        datastore.find(Counter.class).filter(eq("_id", 5)).update(set("name", "updated")).execute();
+        assertEquals(cache.size(), 0);
+        assertEquals(datastore.find(Counter.class).filter(eq("_id", 5L)).first().name, "updated");
+    }
+
+    @Test
+    public void testReadThrough() {
+        LruEntityCache cache = new LruEntityCache(1024 * 1024);
+        Datastore datastore = createDatastore(cache);
+        Profile profile = datastore.save(new Profile("first"));
+
+        Profile read = datastore.find(Profile.class).filter(eq("_id", profile.id)).first();
+        assertEquals(cache.size(), 1);
+        assertNotSame(datastore.find(Profile.class).filter(eq("_id", profile.id)).first(), read);
+
+        getDocumentCollection(Profile.class).updateOne(new Document("_id", profile.id),
+            new Document("$set", new Document("name", "bypassed")));
+        assertEquals(datastore.find(Profile.class).filter(eq("_id", profile.id)).first().name, "first");
+        datastore.refresh(read);
+        assertEquals(read.name, "first");
+
+        datastore.find(Profile.class).update(set("name", "updated")).execute();
+        assertEquals(cache.size(), 0);
+        assertEquals(datastore.find(Profile.class).filter(eq("_id", profile.id)).first().name, "updated");
+
+        read.name = "saved";
+        datastore.save(read);
+        assertEquals(datastore.find(Profile.class).filter(eq("_id", profile.id)).first().name, "saved");
+
+        datastore.delete(read);
+        assertNull(datastore.find(Profile.class).filter(eq("_id", profile.id)).first());
+    }
+
+    @Test
+    public void testReferences() {
+        LruEntityCache cache = new LruEntityCache(1024 * 1024);
+        Datastore datastore = createDatastore(cache);
+        List<Profile> profiles = datastore.save(List.of(new Profile("first"), new Profile("second"), new Profile("third")));
+        datastore.save(new Group(profiles));
+
+        List<Profile> members = datastore.find(Group.class).first().members.get();
+        assertEquals(members.size(), 3);
+        assertEquals(cache.size(), 3);
+
+        getDocumentCollection(Profile.class).updateMany(new Document(), new Document("$set", new Document("name", "bypassed")));
+        for (Profile member : datastore.find(Group.class).first().members.get()) {
+            assertNotEquals(member.name, "bypassed");
+        }
+    }
+
+    private static RawBsonDocument document(int id) {
+        return raw(new BsonDocument("_id", new BsonInt32(id)).append("name", new BsonString("name")));
+    }
+
+    private static RawBsonDocument raw(BsonDocument document) {
+        return new RawBsonDocument(document, new BsonDocumentCodec());
+    }
+
+    private Datastore createDatastore(LruEntityCache cache) {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .entityCache(cache)
+                         .build());
+        datastore.getMapper().map(Profile.class, Group.class);
+        return datastore;
+    }
+
+    @Entity("cached_profiles")
+    @Cached(ttl = 10)
+    public static class Profile {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public Profile() {
+        }
+
+        Profile(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity("cached_counters")
+    @Cached(ttl = 10)
+    public static class Counter {
+        @Id
+        private long id;
+        private String name;
+
+        public Counter() {
+        }
+
+        Counter(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity("cached_groups")
+    public static class Group {
+        @Id
+        private ObjectId id;
+        private MorphiaReference<List<Profile>> members;
+
+        public Group() {
+        }
+
+        Group(List<Profile> members) {
+            this.members = MorphiaReference.wrap(members);
+        }
+    }
+}
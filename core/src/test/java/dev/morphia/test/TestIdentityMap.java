@@ -0,0 +1,78 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.experimental.MorphiaSession;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import dev.morphia.test.models.Rectangle;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+public class TestIdentityMap extends TestBase {
+    @Test
+    public void testReadsById() {
+        getMapper().map(Rectangle.class);
+        Rectangle stored = getDs().save(new Rectangle(1, 1));
+
+        try (MorphiaSession session = getDs().startSession().enableIdentityMap()) {
+            Rectangle first = session.find(Rectangle.class).filter(eq("_id", stored.id)).first();
+            assertNotSame(first, stored);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", stored.id)).first(), first);
+            assertSame(session.find(Rectangle.class).iterator().toList().get(0), first);
+
+            getDs().find(Rectangle.class).update(inc("width", 1)).execute();
+            session.refresh(first);
+            assertEquals(first.getWidth(), 1.0);
+
+            session.find(Rectangle.class).update(inc("height", 1)).execute();
+            Rectangle updated = session.find(Rectangle.class).filter(eq("_id", stored.id)).first();
+            assertNotSame(updated, first);
+            assertEquals(updated.getWidth(), 2.0);
+            assertEquals(updated.getHeight(), 2.0);
+
+            session.delete(updated);
+            assertNull(session.find(Rectangle.class).filter(eq("_id", stored.id)).first());
+        }
+    }
+
+    @Test
+    public void testReferences() {
+        getMapper().map(Rectangle.class, Holder.class);
+        Rectangle rectangle = getDs().save(new Rectangle(2, 3));
+        getDs().save(List.of(new Holder(rectangle), new Holder(rectangle)));
+
+        try (MorphiaSession session = getDs().startSession().enableIdentityMap()) {
+            List<Holder> holders = session.find(Holder.class).iterator().toList();
+            Rectangle referenced = holders.get(0).rectangle.get();
+            assertSame(holders.get(1).rectangle.get(), referenced);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", rectangle.id)).first(), referenced);
+
+            Rectangle saved = new Rectangle(4, 5);
+            session.save(saved);
+            assertSame(session.find(Rectangle.class).filter(eq("_id", saved.id)).first(), saved);
+        }
+    }
+
+    @Entity
+    public static class Holder {
+        @Id
+        private ObjectId id;
+        private MorphiaReference<Rectangle> rectangle;
+
+        Holder() {
+        }
+
+        Holder(Rectangle rectangle) {
+            this.rectangle = MorphiaReference.wrap(rectangle);
+        }
+    }
+}
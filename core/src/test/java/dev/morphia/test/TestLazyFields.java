@@ -0,0 +1,123 @@
+package dev.morphia.test;
+
+import dev.morphia.Datastore;
+import dev.morphia.EntityInterceptor;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.LazyFields;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.LazyEntity;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestLazyFields extends TestBase {
+    @Test
+    public void testDecodesOnAccess() {
+        Article saved = getDs().save(new Article("title", "body", List.of("one", "two")));
+
+        Article article = getDs().find(Article.class).filter(eq("_id", saved.id)).first();
+        assertTrue(article instanceof LazyEntity);
+        assertEquals(article.id, saved.id);
+        assertNull(article.title);
+        assertNull(article.body);
+
+        assertEquals(article.getTitle(), "title");
+        assertNull(article.body);
+        assertFalse(((LazyEntity) article).isFetched());
+
+        assertEquals(article.summary(), "title: body [one, two]");
+        assertTrue(((LazyEntity) article).isFetched());
+    }
+
+    @Test
+    public void testGetterReadingOtherFields() {
+        Article saved = getDs().save(new Article("title", null, List.of()));
+
+        Article article = getDs().find(Article.class).filter(eq("_id", saved.id)).first();
+        assertEquals(article.getBody(), "title");
+        assertTrue(((LazyEntity) article).isFetched());
+    }
+
+    @Test
+    public void testInterceptorDecodesEagerly() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName());
+        datastore.getMapper().map(Article.class);
+        Article saved = datastore.save(new Article("title", "body", List.of("one")));
+        List<String> titles = new ArrayList<>();
+        datastore.getMapper().addInterceptor(new EntityInterceptor() {
+            @Override
+            public boolean appliesTo(Class<?> type) {
+                return Article.class.equals(type);
+            }
+
+            @Override
+            public void postLoad(Object ent, Document document, Mapper mapper) {
+                titles.add(((Article) ent).title);
+            }
+        });
+
+        Article article = datastore.find(Article.class).filter(eq("_id", saved.id)).first();
+        assertFalse(article instanceof LazyEntity);
+        assertEquals(titles, List.of("title"));
+    }
+
+    @Test
+    public void testSave() {
+        Article saved = getDs().save(new Article("title", "body", List.of("one", "two")));
+
+        Article article = getDs().find(Article.class).first();
+        article.setTitle("updated");
+        getDs().save(article);
+
+        Article reloaded = getDs().find(Article.class).filter(eq("_id", saved.id)).first();
+        assertEquals(reloaded.getTitle(), "updated");
+        assertEquals(reloaded.summary(), "updated: body [one, two]");
+        assertEquals(getDs().find(Article.class).count(), 1);
+    }
+
+    @Entity("lazy_articles")
+    @LazyFields
+    public static class Article {
+        @Id
+        private ObjectId id;
+        private String title;
+        private String body;
+        private List<String> tags;
+
+        public Article() {
+        }
+
+        Article(String title, String body, List<String> tags) {
+            this.title = title;
+            this.body = body;
+            this.tags = tags;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getBody() {
+            return body != null ? body : title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public String summary() {
+            return title + ": " + body + " " + tags;
+        }
+    }
+}
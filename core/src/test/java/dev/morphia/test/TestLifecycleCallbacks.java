@@ -0,0 +1,211 @@
+package dev.morphia.test;
+
+import dev.morphia.Datastore;
+import dev.morphia.EntityInterceptor;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.EntityListeners;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.annotations.PostPersist;
+import dev.morphia.annotations.PreLoad;
+import dev.morphia.annotations.PrePersist;
+import dev.morphia.annotations.Transient;
+import dev.morphia.mapping.Mapper;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static java.util.Arrays.asList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+public class TestLifecycleCallbacks extends TestBase {
+    private static final Set<Listener> LISTENERS = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final List<Datastore> DATASTORES = new ArrayList<>();
+    private static final List<String> STATIC_CALLS = new ArrayList<>();
+
+    @Test
+    public void testCallbackParameters() {
+        LISTENERS.clear();
+        DATASTORES.clear();
+        CallbackEntity entity = getDs().save(new CallbackEntity("first"));
+
+        assertEquals(entity.calls, asList("listener prePersist", "prePersist", "listener postPersist first", "postPersist first"));
+
+        CallbackEntity loaded = getDs().find(CallbackEntity.class).filter(eq("_id", entity.id)).first();
+        assertEquals(loaded.calls, asList("preLoad first", "listener postLoad first", "postLoad first"));
+
+        assertEquals(DATASTORES.size(), 2);
+        for (Datastore datastore : DATASTORES) {
+            assertSame(datastore, getDs());
+        }
+    }
+
+    @Test
+    public void testInterceptorAddedAfterUse() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName());
+        datastore.save(new Plain("first"));
+        assertFalse(getDocumentCollection(Plain.class).find().first().containsKey("intercepted"));
+
+        datastore.getMapper().addInterceptor(new EntityInterceptor() {
+            @Override
+            public boolean appliesTo(Class<?> type) {
+                return Plain.class.equals(type);
+            }
+
+            @Override
+            public boolean requiresDocument() {
+                return true;
+            }
+
+            @Override
+            public void postPersist(Object ent, Document document, Mapper mapper) {
+                document.put("intercepted", true);
+            }
+        });
+        datastore.save(new Plain("second"));
+        assertTrue(getDocumentCollection(Plain.class).find(new Document("name", "second")).first().getBoolean("intercepted"));
+    }
+
+    @Test
+    public void testCallbackExceptions() {
+        Failing failing = new Failing();
+        UnsupportedOperationException thrown = expectThrows(UnsupportedOperationException.class, () -> getDs().save(failing));
+        assertEquals(thrown.getMessage(), "no saving");
+    }
+
+    @Test
+    public void testStaticCallbacks() {
+        STATIC_CALLS.clear();
+        DATASTORES.clear();
+        getDs().save(new StaticCallbacks("first"));
+
+        assertEquals(STATIC_CALLS, List.of("prePersist first"));
+        assertEquals(DATASTORES, List.of(getDs()));
+    }
+
+    @Test
+    public void testListenerReused() {
+        LISTENERS.clear();
+        getDs().save(new CallbackEntity("first"));
+        getDs().save(new CallbackEntity("second"));
+        getDs().find(CallbackEntity.class).iterator().toList();
+
+        assertEquals(LISTENERS.size(), 1);
+    }
+
+    @Entity("lifecycle_callbacks")
+    @EntityListeners(Listener.class)
+    public static class CallbackEntity {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Transient
+        private final List<String> calls = new ArrayList<>();
+
+        public CallbackEntity() {
+        }
+
+        public CallbackEntity(String name) {
+            this.name = name;
+        }
+
+        @PrePersist
+        void prePersist() {
+            calls.add("prePersist");
+        }
+
+        @PostPersist
+        void postPersist(Document document) {
+            calls.add("postPersist " + document.getString("name"));
+        }
+
+        @PreLoad
+        void preLoad(Document document, Datastore datastore) {
+            DATASTORES.add(datastore);
+            calls.add("preLoad " + document.getString("name"));
+        }
+
+        @PostLoad
+        void postLoad() {
+            calls.add("postLoad " + name);
+        }
+    }
+
+    @Entity("lifecycle_failing")
+    public static class Failing {
+        @Id
+        private ObjectId id;
+
+        @PrePersist
+        void prePersist() {
+            throw new UnsupportedOperationException("no saving");
+        }
+    }
+
+    @Entity("lifecycle_plain")
+    public static class Plain {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public Plain() {
+        }
+
+        public Plain(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity("lifecycle_static")
+    public static class StaticCallbacks {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public StaticCallbacks() {
+        }
+
+        public StaticCallbacks(String name) {
+            this.name = name;
+        }
+
+        @PrePersist
+        static void prePersist(Datastore datastore, StaticCallbacks entity) {
+            DATASTORES.add(datastore);
+            STATIC_CALLS.add("prePersist " + entity.name);
+        }
+    }
+
+    public static class Listener {
+        @PrePersist
+        void prePersist(CallbackEntity entity) {
+            LISTENERS.add(this);
+            entity.calls.add("listener prePersist");
+        }
+
+        @PostPersist
+        void postPersist(Datastore datastore, CallbackEntity entity, Document document) {
+            LISTENERS.add(this);
+            DATASTORES.add(datastore);
+            entity.calls.add("listener postPersist " + document.getString("name"));
+        }
+
+        @PostLoad
+        void postLoad(CallbackEntity entity) {
+            LISTENERS.add(this);
+            entity.calls.add("listener postLoad " + entity.name);
+        }
+    }
+}
@@ -10,12 +10,17 @@ import dev.morphia.annotations.LoadOnly;
 import dev.morphia.annotations.experimental.Constructor;
 import dev.morphia.annotations.experimental.EmbeddedBuilder;
 import dev.morphia.annotations.experimental.Name;
+import dev.morphia.mapping.EntityContext;
+import dev.morphia.mapping.FieldAccess;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.query.FindOptions;
@@ -36,12 +41,17 @@ import dev.morphia.test.models.errors.ContainsXKeyMap;
 import dev.morphia.test.models.errors.IdOnEmbedded;
 import dev.morphia.test.models.errors.MissingId;
 import dev.morphia.test.models.errors.OuterClass.NonStaticInnerClass;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import org.bson.Document;
+import org.bson.codecs.Codec;
 import org.bson.types.ObjectId;
 import org.testng.annotations.Ignore;
 import org.testng.annotations.Test;
 
 import java.io.Serializable;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -51,6 +61,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.exists;
@@ -58,7 +72,9 @@ import static java.util.stream.Collectors.toList;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
 import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -108,6 +124,68 @@ public class TestMapping extends TestBase {
         assertEquals(instance, first);
     }
 
+    @Test
+    public void partialConstructors() {
+        getDs().getMapper().map(PartialConstructor.class);
+
+        PartialConstructor instance = new PartialConstructor(new ObjectId(), "test instance");
+        instance.count = 42;
+        getDs().save(instance);
+
+        PartialConstructor first = getDs().find(PartialConstructor.class).first();
+        assertNotNull(first);
+        assertEquals(first.id, instance.id);
+        assertEquals(first.name, "test instance");
+        assertEquals(first.count, 42);
+    }
+
+    @Test
+    public void records() throws ReflectiveOperationException {
+        assumeTrue(Runtime.version().feature() >= 16, "Records need at least Java 16");
+        // the tests compile for Java 11 so the record is defined at runtime
+        Class<?> type = new ByteBuddy().makeRecord()
+                                       .name(TestMapping.class.getName() + "$Point")
+                                       .annotateType(AnnotationDescription.Builder.ofType(Entity.class)
+                                                                                  .define("value", "points")
+                                                                                  .build())
+                                       .defineRecordComponent("id", ObjectId.class)
+                                       .annotateRecordComponent(AnnotationDescription.Builder.ofType(Id.class).build())
+                                       .defineRecordComponent("name", String.class)
+                                       .defineRecordComponent("count", int.class)
+                                       .make()
+                                       .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                                       .getLoaded();
+        getMapper().map(type);
+
+        ObjectId id = new ObjectId();
+        Object point = type.getDeclaredConstructor(ObjectId.class, String.class, int.class).newInstance(id, "first", 42);
+        getDs().save(point);
+        assertEquals(getDs().find(type).filter(eq("_id", id)).first(), point);
+
+        ObjectId partial = new ObjectId();
+        getDatabase().getCollection("points").insertOne(new Document("_id", partial).append("name", "partial"));
+        Object loaded = getDs().find(type).filter(eq("_id", partial)).first();
+        assertEquals(type.getMethod("name").invoke(loaded), "partial");
+        assertEquals(type.getMethod("count").invoke(loaded), 0);
+    }
+
+    @Test
+    public void entityContext() {
+        getMapper().map(User.class);
+        EntityContext<User> context = getMapper().getContext(User.class);
+        assertSame(getMapper().getContext(User.class), context);
+        assertSame(getMapper().getCollection(User.class), context.getCollection());
+
+        Document query = new Document();
+        context.applyDiscriminator(query);
+        EntityModel model = getMapper().getEntityModel(User.class);
+        assertEquals(query, new Document(model.getDiscriminatorKey(), new Document("$in", List.of(model.getDiscriminator()))));
+
+        getMapper().map(BannedUser.class);
+        assertNotSame(getMapper().getContext(User.class), context);
+        assertThrows(MappingException.class, () -> getMapper().getContext(String.class));
+    }
+
     @Test
     public void fieldNaming() {
         MapperOptions options = MapperOptions.builder()
@@ -511,6 +589,15 @@ public class TestMapping extends TestBase {
         assertEquals(notSaved.name, "never");
     }
 
+    @Test
+    public void testLoadOnlyNotEncoded() {
+        getMapper().map(NormalWithLoadOnly.class);
+        Document document = getMapper().toDocument(new NormalWithLoadOnly());
+
+        assertNotNull(document.get("_id"));
+        assertFalse(document.containsKey("name"));
+    }
+
     @Test
     public void testLongArrayMapping() {
         getMapper().map(ContainsLongAndStringArray.class);
@@ -590,6 +677,56 @@ public class TestMapping extends TestBase {
         assertEquals(getDs().find(ContainsIntKeyMap.class).filter(exists("values.4")).count(), 0);
     }
 
+    @Test
+    public void testOutOfOrderFields() {
+        getMapper().map(ContainsPrimitives.class);
+        ObjectId id = new ObjectId();
+        getDocumentCollection(ContainsPrimitives.class)
+            .insertOne(new Document("longs", List.of(1L, 2L))
+                           .append("ratio", 0.25)
+                           .append("_t", ContainsPrimitives.class.getSimpleName())
+                           .append("unmapped", "ignored")
+                           .append("count", 7)
+                           .append("_id", id));
+
+        ContainsPrimitives loaded = getDs().find(ContainsPrimitives.class)
+                                           .filter(eq("_id", id))
+                                           .first();
+        assertNotNull(loaded);
+        assertEquals(loaded.id, id);
+        assertEquals(loaded.count, 7);
+        assertEquals(loaded.total, 0L);
+        assertEquals(loaded.ratio, 0.25);
+        assertEquals(loaded.longs, new long[]{1, 2});
+    }
+
+    @Test
+    public void testReversedFields() {
+        getMapper().map(ContainsPrimitives.class);
+        ContainsPrimitives primitives = new ContainsPrimitives();
+        primitives.count = 3;
+        primitives.total = 1L << 35;
+        primitives.ratio = 0.75;
+        primitives.active = true;
+        primitives.longs = new long[]{8, 9};
+        getDs().save(primitives);
+
+        Document stored = getDocumentCollection(ContainsPrimitives.class).find().first();
+        List<String> names = new ArrayList<>(stored.keySet());
+        Collections.reverse(names);
+        Document reversed = new Document();
+        names.forEach(name -> reversed.append(name, stored.get(name)));
+        getDocumentCollection(ContainsPrimitives.class).replaceOne(new Document("_id", primitives.id), reversed);
+
+        ContainsPrimitives loaded = getDs().find(ContainsPrimitives.class).first();
+        assertEquals(loaded.id, primitives.id);
+        assertEquals(loaded.count, 3);
+        assertEquals(loaded.total, 1L << 35);
+        assertEquals(loaded.ratio, 0.75);
+        assertTrue(loaded.active);
+        assertEquals(loaded.longs, new long[]{8, 9});
+    }
+
     @Test
     public void testPrimMap() {
         final ContainsPrimitiveMap primMap = new ContainsPrimitiveMap();
@@ -662,6 +799,70 @@ public class TestMapping extends TestBase {
 */
     }
 
+    @Test
+    public void testCodecsBuiltWhenMapped() throws Exception {
+        getMapper().map(ContainsPrimitives.class);
+        Codec<ContainsPrimitives> codec = getMapper().getCodecRegistry().get(ContainsPrimitives.class);
+        assertTrue(codec instanceof MorphiaCodec);
+        List<FieldModel> fields = getMapper().getEntityModel(ContainsPrimitives.class).getFields();
+        List<Codec<?>> fieldCodecs = fields.stream().map(FieldModel::getCachedCodec).collect(toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 20; round++) {
+                // a provider of its own has built no codecs yet so every lookup races to build the first one
+                MorphiaCodecProvider provider = new MorphiaCodecProvider(getMapper(), getDs());
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Codec<ContainsPrimitives>>> lookups = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    lookups.add(executor.submit(() -> {
+                        start.await();
+                        return provider.get(ContainsPrimitives.class, getMapper().getCodecRegistry());
+                    }));
+                }
+                start.countDown();
+                Codec<ContainsPrimitives> winner = lookups.get(0).get();
+                for (Future<Codec<ContainsPrimitives>> lookup : lookups) {
+                    assertSame(lookup.get(), winner);
+                }
+                assertSame(provider.get(ContainsPrimitives.class, getMapper().getCodecRegistry()), winner);
+                for (int i = 0; i < fields.size(); i++) {
+                    assertSame(fields.get(i).getCachedCodec(), fieldCodecs.get(i), fields.get(i).getName());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testBatchedReferences() {
+        getMapper().map(Book.class, Author.class);
+        Author tolkien = new Author();
+        tolkien.name = "Tolkien";
+        Author lewis = new Author();
+        lewis.name = "Lewis";
+        getDs().save(List.of(tolkien, lewis));
+        getDs().save(List.of(new Book("The Hobbit", tolkien, 1),
+            new Book("The Silmarillion", tolkien, 2),
+            new Book("Narnia", lewis, 3),
+            new Book("Till We Have Faces", lewis, 4)));
+
+        List<Book> books = getDs().find(Book.class)
+                                  .iterator(new FindOptions()
+                                                .batchSize(2)
+                                                .batchReferences(true))
+                                  .toList();
+
+        assertEquals(books.size(), 4);
+        for (Book book : books) {
+            assertNotNull(book.author, book.title);
+            assertEquals(book.author.name, book.title.startsWith("The") ? "Tolkien" : "Lewis");
+        }
+        assertSame(books.get(0).author, books.get(1).author);
+        assertSame(books.get(2).author, books.get(3).author);
+    }
+
     @Test
     public void testReferenceWithoutIdValue() {
         assertThrows(ReferenceException.class, () -> {
@@ -698,6 +899,60 @@ public class TestMapping extends TestBase {
         assertEquals(before, loaded.id);
     }
 
+    @Test
+    public void testVarHandleFieldAccess() {
+        MapperOptions options = MapperOptions.builder(getMapper().getOptions())
+                                             .fieldAccess(FieldAccess.VAR_HANDLE)
+                                             .build();
+        final Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(), options);
+        datastore.getMapper().map(ContainsPrimitives.class, ContainsFinalField.class);
+
+        ContainsPrimitives primitives = new ContainsPrimitives();
+        primitives.count = 42;
+        primitives.total = 1L << 40;
+        primitives.ratio = 0.5;
+        primitives.active = true;
+        primitives.longs = new long[]{3, 4, 5};
+        datastore.save(primitives);
+
+        ContainsPrimitives loaded = datastore.find(ContainsPrimitives.class)
+                                             .filter(eq("_id", primitives.id))
+                                             .first();
+        assertNotNull(loaded);
+        assertEquals(loaded.count, 42);
+        assertEquals(loaded.total, 1L << 40);
+        assertEquals(loaded.ratio, 0.5);
+        assertTrue(loaded.active);
+        assertEquals(loaded.longs, new long[]{3, 4, 5});
+
+        final ObjectId savedKey = datastore.save(new ContainsFinalField("blah")).id;
+        final ContainsFinalField finalField = datastore.find(ContainsFinalField.class)
+                                                       .filter(eq("_id", savedKey))
+                                                       .first();
+        assertNotNull(finalField);
+        assertEquals(finalField.name, "blah");
+    }
+
+    @Test
+    public void testVarHandleConversions() throws NoSuchFieldException {
+        Field countField = ContainsPrimitives.class.getDeclaredField("count");
+        Field totalField = ContainsPrimitives.class.getDeclaredField("total");
+        countField.setAccessible(true);
+        totalField.setAccessible(true);
+        FieldAccessor count = new FieldAccessor(countField, FieldAccess.VAR_HANDLE);
+        FieldAccessor total = new FieldAccessor(totalField, FieldAccess.VAR_HANDLE);
+        ContainsPrimitives primitives = new ContainsPrimitives();
+
+        count.set(primitives, 42);
+        total.set(primitives, 7);
+        assertEquals(primitives.count, 42);
+        assertEquals(primitives.total, 7L);
+
+        assertThrows(MappingException.class, () -> count.set(primitives, null));
+        assertThrows(MappingException.class, () -> count.set(primitives, "42"));
+        assertEquals(primitives.count, 42);
+    }
+
     protected void findFirst(Datastore datastore, Class<?> type, BlogImage expected) {
         Query<?> query = datastore.find(type);
         assertEquals(query.count(), 1, query.toString());
@@ -778,6 +1033,19 @@ public class TestMapping extends TestBase {
         }
     }
 
+    @Entity
+    public static class PartialConstructor {
+        @Id
+        private final ObjectId id;
+        private final String name;
+        private int count;
+
+        public PartialConstructor(@Name("id") ObjectId id, @Name("name") String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
     @Entity
     private static class ContainsByteArray {
         private final byte[] bytes = "Scott".getBytes();
@@ -893,6 +1161,17 @@ public class TestMapping extends TestBase {
         }
     }
 
+    @Entity
+    private static class ContainsPrimitives {
+        @Id
+        private ObjectId id;
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean active;
+        private long[] longs;
+    }
+
     @Entity
     private static class ContainsPrimitiveMap {
         private final Map<String, Long> embeddedValues = new HashMap<>();
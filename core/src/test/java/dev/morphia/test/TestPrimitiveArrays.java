@@ -0,0 +1,169 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.experimental.Packed;
+import dev.morphia.mapping.MappingException;
+import org.bson.BsonArray;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonDecimal128;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDouble;
+import org.bson.BsonInt64;
+import org.bson.BsonInvalidOperationException;
+import org.bson.BsonNull;
+import org.bson.BsonReader;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestPrimitiveArrays extends TestBase {
+    @Test
+    public void testArrays() {
+        Vectors vectors = new Vectors();
+        vectors.ints = new int[]{1, 2, 3};
+        vectors.longs = new long[]{4L, Long.MAX_VALUE};
+        vectors.doubles = new double[]{1.5, -2.5};
+        vectors.counts = Arrays.asList(1, null, 3);
+        getDs().save(vectors);
+
+        Vectors loaded = getDs().find(Vectors.class).filter(eq("_id", vectors.id)).first();
+        assertEquals(loaded.ints, vectors.ints);
+        assertEquals(loaded.longs, vectors.longs);
+        assertEquals(loaded.doubles, vectors.doubles);
+        assertEquals(loaded.counts, vectors.counts);
+    }
+
+    @Test
+    public void testExactConversions() {
+        assertEquals(decode(int[].class, new BsonInt64(Integer.MIN_VALUE), new BsonDouble(3.0), new BsonDecimal128(Decimal128.parse("-0"))),
+            new int[]{Integer.MIN_VALUE, 3, 0});
+        assertEquals(decode(long[].class, new BsonDouble(-0x1p63), new BsonDecimal128(Decimal128.parse("5E+2"))),
+            new long[]{Long.MIN_VALUE, 500});
+    }
+
+    @DataProvider(name = "lossy")
+    public Object[][] lossy() {
+        return new Object[][]{
+            {int[].class, new BsonInt64(1L << 40)},
+            {int[].class, new BsonDouble(1.5)},
+            {int[].class, BsonNull.VALUE},
+            {long[].class, new BsonDouble(0x1p63)},
+            {long[].class, new BsonDouble(Double.NaN)},
+            {long[].class, new BsonDecimal128(Decimal128.parse("2.5"))},
+            {long[].class, new BsonDecimal128(Decimal128.parse("1E+40"))},
+            {long[].class, BsonNull.VALUE},
+            {double[].class, BsonNull.VALUE}
+        };
+    }
+
+    @Test(dataProvider = "lossy", expectedExceptions = BsonInvalidOperationException.class)
+    public void testLossyConversions(Class<?> type, BsonValue value) {
+        decode(type, value);
+    }
+
+    @DataProvider(name = "unpackable")
+    public Object[][] unpackable() {
+        return new Object[][]{
+            {double[].class, new BsonBinary(BsonBinarySubType.USER_DEFINED, new byte[Double.BYTES * 2 - 1])},
+            {int[].class, new BsonBinary(BsonBinarySubType.USER_DEFINED, new byte[Integer.BYTES + 2])},
+            {long[].class, new BsonBinary(BsonBinarySubType.BINARY, new byte[Long.BYTES])}
+        };
+    }
+
+    @Test(dataProvider = "unpackable", expectedExceptions = BsonInvalidOperationException.class)
+    public void testInvalidPackedData(Class<?> type, BsonBinary value) {
+        decodeValue(type, value);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testNullElements() {
+        getDatabase().getCollection("vectors")
+                     .insertOne(new Document("_id", new ObjectId())
+                                    .append("ints", Arrays.asList(1, null)));
+
+        getDs().find(Vectors.class).first();
+    }
+
+    @Test
+    public void testMixedNumbers() {
+        getDatabase().getCollection("vectors")
+                     .insertOne(new Document("_id", new ObjectId())
+                                    .append("ints", List.of(1, 2L, 3.0))
+                                    .append("doubles", List.of(1, 2L))
+                                    .append("counts", 4));
+
+        Vectors loaded = getDs().find(Vectors.class).first();
+        assertEquals(loaded.ints, new int[]{1, 2, 3});
+        assertEquals(loaded.doubles, new double[]{1, 2});
+        assertEquals(loaded.counts, List.of(4));
+    }
+
+    @Test
+    public void testPacked() {
+        Vectors vectors = new Vectors();
+        vectors.embedding = new double[]{0.25, -1, 1e300};
+        vectors.offsets = List.of(1L, 2L, 3L);
+        getDs().save(vectors);
+
+        Document document = getDatabase().getCollection("vectors").find().first();
+        assertTrue(document.get("embedding") instanceof Binary);
+        assertEquals(((Binary) document.get("embedding")).length(), 3 * Double.BYTES);
+
+        Vectors loaded = getDs().find(Vectors.class).first();
+        assertEquals(loaded.embedding, vectors.embedding);
+        assertEquals(loaded.offsets, vectors.offsets);
+    }
+
+    @Test(expectedExceptions = MappingException.class)
+    public void testPackedUnsupported() {
+        getMapper().map(Unpackable.class);
+    }
+
+    private <T> T decode(Class<T> type, BsonValue... values) {
+        return decodeValue(type, new BsonArray(Arrays.asList(values)));
+    }
+
+    private <T> T decodeValue(Class<T> type, BsonValue value) {
+        BsonReader reader = new BsonDocumentReader(new BsonDocument("values", value));
+        reader.readStartDocument();
+        reader.readName();
+        return getMapper().getCodecRegistry().get(type).decode(reader, DecoderContext.builder().build());
+    }
+
+    @Entity("vectors")
+    public static class Vectors {
+        @Id
+        private ObjectId id;
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private List<Integer> counts;
+        @Packed
+        private double[] embedding;
+        @Packed
+        private List<Long> offsets;
+    }
+
+    @Entity("unpackable")
+    public static class Unpackable {
+        @Id
+        private ObjectId id;
+        @Packed
+        private String[] names;
+    }
+}
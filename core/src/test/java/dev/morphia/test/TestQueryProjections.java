@@ -0,0 +1,129 @@
+package dev.morphia.test;
+
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Property;
+import dev.morphia.internal.Records;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.QueryException;
+import dev.morphia.query.internal.MorphiaCursor;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static dev.morphia.query.Sort.ascending;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+
+public class TestQueryProjections extends TestBase {
+    @Test
+    public void testClass() {
+        getDs().save(List.of(new Book("first", "Ann", 100), new Book("second", "Bob", 200)));
+
+        try (MorphiaCursor<Listing> cursor = getDs().find(Book.class)
+                                                    .filter(gt("pages", 150))
+                                                    .project(Listing.class)) {
+            List<Listing> listings = cursor.toList();
+            assertEquals(listings.size(), 1);
+            assertNotNull(listings.get(0).id);
+            assertEquals(listings.get(0).title, "second");
+            assertEquals(listings.get(0).pages, 200);
+        }
+    }
+
+    @Test
+    public void testInterface() {
+        getDs().save(List.of(new Book("first", "Ann", 100), new Book("second", "Bob", 200)));
+
+        List<Summary> summaries = getDs().find(Book.class)
+                                         .project(Summary.class, new FindOptions().sort(ascending("pages")))
+                                         .toList();
+        assertEquals(summaries.size(), 2);
+        assertEquals(summaries.get(0).getTitle(), "first");
+        assertEquals(summaries.get(0).getAuthor(), "Ann");
+        assertEquals(summaries.get(1).describe(), "second by Bob");
+    }
+
+    @Test
+    public void testRecord() throws ReflectiveOperationException {
+        assumeTrue(Runtime.version().feature() >= 16, "Records need at least Java 16");
+        // the tests compile for Java 11 so the record is defined at runtime
+        Class<?> type = new ByteBuddy().makeRecord()
+                                       .name(TestQueryProjections.class.getName() + "$Entry")
+                                       .defineRecordComponent("title", String.class)
+                                       .defineRecordComponent("pages", int.class)
+                                       .make()
+                                       .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                                       .getLoaded();
+        assertTrue(Records.isRecord(type));
+        getDs().save(List.of(new Book("first", "Ann", 100), new Book("second", "Bob", 200)));
+
+        List<?> entries = getDs().find(Book.class)
+                                 .project(type, new FindOptions().sort(ascending("pages")))
+                                 .toList();
+        assertEquals(entries.size(), 2);
+        Method title = type.getMethod("title");
+        Method pages = type.getMethod("pages");
+        assertEquals(title.invoke(entries.get(0)), "first");
+        assertEquals(pages.invoke(entries.get(0)), 100);
+        assertEquals(title.invoke(entries.get(1)), "second");
+        assertEquals(pages.invoke(entries.get(1)), 200);
+    }
+
+    @Test(expectedExceptions = MappingException.class)
+    public void testUnmappedProperty() {
+        getDs().find(Book.class).project(Unmapped.class);
+    }
+
+    @Test(expectedExceptions = QueryException.class)
+    public void testWithProjection() {
+        getDs().find(Book.class).project(Summary.class, new FindOptions().projection().include("title"));
+    }
+
+    public interface Summary {
+        String getAuthor();
+
+        String getTitle();
+
+        default String describe() {
+            return getTitle() + " by " + getAuthor();
+        }
+    }
+
+    public interface Unmapped {
+        String getPublisher();
+    }
+
+    @Entity("projected_books")
+    public static class Book {
+        @Id
+        private ObjectId id;
+        private String title;
+        @Property("by")
+        private String author;
+        private int pages;
+        private String text = "a long text";
+
+        public Book() {
+        }
+
+        Book(String title, String author, int pages) {
+            this.title = title;
+            this.author = author;
+            this.pages = pages;
+        }
+    }
+
+    public static class Listing {
+        private ObjectId id;
+        private String title;
+        private int pages;
+    }
+}
@@ -0,0 +1,204 @@
+package dev.morphia.test;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.result.DeleteResult;
+import com.mongodb.client.result.UpdateResult;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import dev.morphia.ModifyOptions;
+import dev.morphia.Morphia;
+import dev.morphia.UpdateOptions;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Version;
+import dev.morphia.query.FindOptions;
+import dev.morphia.reactive.ReactiveDatastore;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static dev.morphia.aggregation.experimental.expressions.AccumulatorExpressions.sum;
+import static dev.morphia.aggregation.experimental.expressions.Expressions.field;
+import static dev.morphia.aggregation.experimental.stages.Group.id;
+import static dev.morphia.aggregation.experimental.stages.Group.of;
+import static dev.morphia.aggregation.experimental.stages.Match.on;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.updates.UpdateOperators.inc;
+import static dev.morphia.query.experimental.updates.UpdateOperators.set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
+
+public class TestReactiveDatastore extends TestBase {
+    private MongoClient reactiveClient;
+
+    @AfterClass
+    public void closeClient() {
+        if (reactiveClient != null) {
+            reactiveClient.close();
+        }
+    }
+
+    @Test
+    public void testAggregate() {
+        ReactiveDatastore ds = getReactiveDs();
+        for (int i = 1; i <= 4; i++) {
+            collect(ds.insert(new Item(i % 2 == 0 ? "even" : "odd", i)));
+        }
+
+        List<Document> totals = collect(ds.aggregate(Item.class, Document.class,
+            on(gt("count", 1)),
+            of(id("name")).field("total", sum(field("count")))));
+
+        assertEquals(totals.size(), 2);
+        for (Document total : totals) {
+            assertEquals(total.get("total"), total.get("_id").equals("even") ? 6 : 3);
+        }
+    }
+
+    @Test
+    public void testSaveAndFind() {
+        ReactiveDatastore ds = getReactiveDs();
+        Item item = collect(ds.save(new Item("first", 1))).get(0);
+        assertNotNull(item.id);
+        collect(ds.save(new Item("second", 2)));
+
+        item.count = 10;
+        collect(ds.save(item));
+
+        List<Item> found = collect(ds.find(Item.class)
+                                     .filter(eq("name", "first"))
+                                     .execute());
+        assertEquals(found.size(), 1);
+        assertEquals(found.get(0).count, 10);
+        assertEquals(collect(ds.find(Item.class).count()).get(0), Long.valueOf(2));
+        assertEquals(collect(ds.find(Item.class).execute(new FindOptions().limit(1))).size(), 1);
+        assertEquals(getDs().find(Item.class).filter(eq("name", "first")).first().count, 10);
+    }
+
+    @Test
+    public void testUpdateModifyAndDelete() {
+        ReactiveDatastore ds = getReactiveDs();
+        Item item = collect(ds.insert(new Item("name", 1))).get(0);
+        collect(ds.insert(new Item("other", 1)));
+
+        UpdateResult result = collect(ds.find(Item.class)
+                                        .update(new UpdateOptions().multi(true), inc("count", 2))).get(0);
+        assertEquals(result.getModifiedCount(), 2);
+
+        Item modified = collect(ds.find(Item.class)
+                                  .filter(eq("_id", item.id))
+                                  .modify(new ModifyOptions().returnDocument(ReturnDocument.AFTER), set("name", "renamed"))).get(0);
+        assertEquals(modified.name, "renamed");
+        assertEquals(modified.count, 3);
+
+        DeleteResult deleted = collect(ds.delete(modified)).get(0);
+        assertEquals(deleted.getDeletedCount(), 1);
+        deleted = collect(ds.find(Item.class).filter(eq("name", "other")).delete()).get(0);
+        assertEquals(deleted.getDeletedCount(), 1);
+        assertEquals(getDs().find(Item.class).count(), 0);
+    }
+
+    @Test
+    public void testVersionedSave() {
+        ReactiveDatastore ds = getReactiveDs();
+        Versioned entity = collect(ds.save(new Versioned())).get(0);
+        assertEquals(entity.version, Long.valueOf(1));
+
+        Versioned copy = getDs().find(Versioned.class).first();
+        collect(ds.save(entity));
+        assertEquals(entity.version, Long.valueOf(2));
+
+        try {
+            collect(ds.save(copy));
+            fail("the stale copy should not have been saved");
+        } catch (ConcurrentModificationException e) {
+            assertEquals(copy.version, Long.valueOf(1));
+        }
+    }
+
+    private ReactiveDatastore getReactiveDs() {
+        if (reactiveClient == null) {
+            List<ServerAddress> hosts = getMongoClient().getClusterDescription().getClusterSettings().getHosts();
+            reactiveClient = MongoClients.create(MongoClientSettings.builder()
+                                                                    .applyToClusterSettings(builder -> builder.hosts(hosts))
+                                                                    .build());
+        }
+        getMapper().map(Item.class, Versioned.class);
+        return Morphia.createReactiveDatastore(reactiveClient, getDs());
+    }
+
+    private static <T> List<T> collect(Publisher<T> publisher) {
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        List<T> items = new ArrayList<>();
+        publisher.subscribe(new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                future.complete(items);
+            }
+        });
+        try {
+            return future.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Entity
+    private static class Item {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+
+        private Item() {
+        }
+
+        private Item(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+    }
+
+    @Entity
+    private static class Versioned {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+    }
+}
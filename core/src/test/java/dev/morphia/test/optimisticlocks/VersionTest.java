@@ -1,6 +1,9 @@
 package dev.morphia.test.optimisticlocks;
 
+import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.result.UpdateResult;
+import dev.morphia.BulkOptions;
+import dev.morphia.BulkResult;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
@@ -11,7 +14,9 @@ import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.Sort;
 import dev.morphia.test.TestBase;
+import dev.morphia.test.models.FacebookUser;
 import dev.morphia.test.models.TestEntity;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -23,7 +28,10 @@ import java.util.Objects;
 import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.updates.UpdateOperators.set;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
 
 
 public class VersionTest extends TestBase {
@@ -99,6 +107,94 @@ public class VersionTest extends TestBase {
         });
     }
 
+    @Test
+    public void testBulkConflicts() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = List.of(new VersionedType(), new VersionedType(), new VersionedType());
+        getDs().save(initial);
+
+        List<VersionedType> loaded = getDs().find(VersionedType.class)
+                                            .iterator(new FindOptions().sort(Sort.ascending("_id")))
+                                            .toList();
+        getDs().save(loaded.get(0));
+
+        BulkResult result = getDs().bulk()
+                                   .save(initial.get(0))
+                                   .save(loaded.get(1))
+                                   .save(initial.get(2))
+                                   .execute(new BulkOptions().ordered(false));
+
+        assertEquals(result.getConflicts(), List.of(initial.get(0)));
+        assertEquals(initial.get(0).version, 1);
+        assertEquals(loaded.get(1).version, 2);
+        assertEquals(initial.get(2).version, 2);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(0).id)).first().version, 2);
+    }
+
+    @Test
+    public void testBulkDeletedIsConflict() {
+        getMapper().map(List.of(VersionedType.class));
+        VersionedType entity = getDs().save(new VersionedType());
+        getDocumentCollection(VersionedType.class).deleteMany(new Document());
+
+        BulkResult result = getDs().bulk().save(entity).execute();
+
+        assertEquals(result.getConflicts(), List.of(entity));
+        assertFalse(result.isSuccessful());
+        assertEquals(entity.version, 1);
+        assertEquals(getDs().find(VersionedType.class).count(), 0);
+    }
+
+    @Test
+    public void testBulkOrderedStopsAtConflict() {
+        getMapper().map(List.of(VersionedType.class));
+        List<VersionedType> initial = getDs().save(List.of(new VersionedType(), new VersionedType()));
+        getDs().save(getDs().find(VersionedType.class).filter(eq("_id", initial.get(0).id)).first());
+
+        BulkResult result = getDs().bulk()
+                                   .save(initial.get(0))
+                                   .save(initial.get(1))
+                                   .execute(new BulkOptions().ordered(true));
+
+        assertEquals(result.getConflicts(), List.of(initial.get(0)));
+        assertFalse(result.getResults().get(1).isExecuted());
+        assertEquals(initial.get(1).version, 1);
+        assertEquals(getDs().find(VersionedType.class).filter(eq("_id", initial.get(1).id)).first().version, 1);
+    }
+
+    @Test
+    public void testBulkOtherDuplicateKeyIsNotConflict() {
+        getMapper().map(List.of(VersionedType.class));
+        getDocumentCollection(VersionedType.class).createIndex(new Document("text", 1), new IndexOptions().unique(true));
+        VersionedType first = new VersionedType();
+        first.text = "first";
+        VersionedType second = new VersionedType();
+        second.text = "second";
+        getDs().save(List.of(first, second));
+
+        second.text = "first";
+        BulkResult result = getDs().bulk().save(second).execute();
+
+        assertFalse(result.isSuccessful());
+        assertTrue(result.getConflicts().isEmpty());
+        assertNotNull(result.getFailures().get(0).getError());
+        assertEquals(second.version, 1);
+    }
+
+    @Test
+    public void testMultiSavesInOrder() {
+        getMapper().map(List.of(VersionedType.class, FacebookUser.class));
+        VersionedType stale = getDs().save(new VersionedType());
+        getDs().save(getDs().find(VersionedType.class).first());
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            getDs().save(List.of(new FacebookUser(1, "before"), stale, new FacebookUser(2, "after")));
+        });
+        assertEquals(stale.version, 1);
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 1L)).count(), 1);
+        assertEquals(getDs().find(FacebookUser.class).filter(eq("_id", 2L)).count(), 0);
+    }
+
     @Test
     public void testMultiSaves() {
         getMapper().map(List.of(VersionedType.class));
@@ -144,6 +240,27 @@ public class VersionTest extends TestBase {
         }
     }
 
+    @Test
+    public void testUpdateWithEntity() {
+        Datastore ds = getDs();
+        VersionedType entity = new VersionedType();
+        ds.save(entity);
+        assertEquals(entity.version, 1);
+
+        entity.text = "some new value";
+        UpdateResult results = ds.find(VersionedType.class)
+                                 .filter(eq("_id", entity.getId()))
+                                 .update(set(entity))
+                                 .execute();
+        assertEquals(results.getModifiedCount(), 1);
+
+        VersionedType updated = ds.find(VersionedType.class)
+                                  .filter(eq("_id", entity.getId()))
+                                  .first();
+        assertEquals(updated.text, "some new value");
+        assertEquals(updated.version, 2);
+    }
+
     @Test
     public void testVersionFieldNameContribution() {
         final FieldModel mappedFieldByJavaField = getMapper().getEntityModel(NamedVersion.class).getField("v");
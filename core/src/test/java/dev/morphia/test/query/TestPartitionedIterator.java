@@ -0,0 +1,71 @@
+package dev.morphia.test.query;
+
+import com.mongodb.client.MongoCollection;
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.PartitionedCursor;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Book;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static dev.morphia.query.experimental.filters.Filters.gte;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+public class TestPartitionedIterator extends TestBase {
+    @Test
+    public void testAllResultsReturnedOnce() {
+        saveBooks(1000);
+
+        assertEquals(copies(getDs().find(Book.class).partitionedIterator(4)).size(), 1000);
+
+        Set<Integer> filtered = copies(getDs().find(Book.class)
+                                              .filter(gte("copies", 900))
+                                              .partitionedIterator(4, new FindOptions().batchSize(10)));
+        assertEquals(filtered.size(), 100);
+        assertTrue(filtered.stream().allMatch(copies -> copies >= 900));
+    }
+
+    @Test
+    public void testEmptyCollection() {
+        getMapper().map(Book.class);
+        assertEquals(copies(getDs().find(Book.class).partitionedIterator(4)).size(), 0);
+    }
+
+    @Test
+    public void testMixedIdTypes() {
+        MongoCollection<Document> collection = getDatabase().getCollection("partitioned_ids");
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            documents.add(new Document("_id", i));
+        }
+        documents.add(new Document("_id", "first"));
+        documents.add(new Document("_id", new ObjectId()));
+        documents.add(new Document("_id", new Document("nested", true)));
+        collection.insertMany(documents);
+
+        List<Document> ranges = PartitionedCursor.ranges(collection, new Document(), 4);
+        Set<Object> ids = new HashSet<>();
+        for (Document range : ranges) {
+            for (Document document : collection.find(range)) {
+                assertTrue(ids.add(document.get("_id")), "duplicate result: " + document.get("_id"));
+            }
+        }
+        assertEquals(ids.size(), documents.size());
+    }
+
+    private Set<Integer> copies(MorphiaCursor<Book> cursor) {
+        Set<Integer> copies = new HashSet<>();
+        for (Book book : cursor.toList()) {
+            assertTrue(copies.add(book.copies), "duplicate result: " + book.copies);
+        }
+        return copies;
+    }
+}
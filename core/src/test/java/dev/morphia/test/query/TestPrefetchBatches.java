@@ -0,0 +1,47 @@
+package dev.morphia.test.query;
+
+import dev.morphia.query.FindOptions;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Book;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static dev.morphia.query.Sort.ascending;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+
+public class TestPrefetchBatches extends TestBase {
+    @DataProvider(name = "counts")
+    public Object[][] counts() {
+        return new Object[][]{{0}, {1}, {49}, {50}, {51}, {149}, {150}, {151}, {1000}};
+    }
+
+    @Test(dataProvider = "counts")
+    public void testResultsInOrder(int count) {
+        saveBooks(count);
+
+        List<Book> found = getDs().find(Book.class)
+                                  .iterator(new FindOptions().sort(ascending("copies"))
+                                                             .batchSize(50)
+                                                             .prefetchBatches(3))
+                                  .toList();
+        assertEquals(found.size(), count);
+        for (int i = 0; i < found.size(); i++) {
+            assertEquals(found.get(i).copies.intValue(), i);
+        }
+    }
+
+    @Test
+    public void testCloseEarly() {
+        saveBooks(500);
+
+        MorphiaCursor<Book> cursor = getDs().find(Book.class)
+                                            .iterator(new FindOptions().batchSize(10).prefetchBatches(2));
+        cursor.next();
+        cursor.close();
+        assertFalse(cursor.hasNext());
+    }
+}
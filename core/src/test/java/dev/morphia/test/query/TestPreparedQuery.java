@@ -0,0 +1,63 @@
+package dev.morphia.test.query;
+
+import dev.morphia.query.PreparedQuery;
+import dev.morphia.query.QueryException;
+import dev.morphia.test.TestBase;
+import dev.morphia.test.models.Author;
+import dev.morphia.test.models.Book;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static dev.morphia.query.Parameter.param;
+import static dev.morphia.query.experimental.filters.Filters.eq;
+import static dev.morphia.query.experimental.filters.Filters.gt;
+import static dev.morphia.query.experimental.filters.Filters.or;
+import static java.util.stream.Collectors.toList;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+
+public class TestPreparedQuery extends TestBase {
+    @Test
+    public void testBinding() {
+        getMapper().map(Book.class, Author.class);
+        Author tolkien = new Author();
+        tolkien.name = "Tolkien";
+        Author lewis = new Author();
+        lewis.name = "Lewis";
+        getDs().save(List.of(tolkien, lewis));
+        getDs().save(List.of(new Book("The Hobbit", tolkien, 1),
+            new Book("The Silmarillion", tolkien, 20),
+            new Book("Narnia", lewis, 3)));
+
+        PreparedQuery<Book> query = getDs().prepare(getDs().find(Book.class)
+                                                           .filter(eq("author", param("author")),
+                                                               or(eq("title", param("title")), gt("copies", param("copies")))));
+        assertEquals(query.getParameterNames(), List.of("author", "title", "copies"));
+
+        assertEquals(titles(query, Map.of("author", tolkien, "title", "The Hobbit", "copies", 10)),
+            List.of("The Hobbit", "The Silmarillion"));
+        assertEquals(titles(query, Map.of("author", tolkien, "title", "The Hobbit", "copies", 100)),
+            List.of("The Hobbit"));
+        assertEquals(titles(query, Map.of("author", lewis, "title", "Narnia", "copies", 0)),
+            List.of("Narnia"));
+
+        assertThrows(QueryException.class, () -> query.bind("author", lewis));
+    }
+
+    @Test
+    public void testUnpreparedParameter() {
+        getMapper().map(Book.class, Author.class);
+        assertThrows(QueryException.class, () -> getDs().find(Book.class)
+                                                        .filter(eq("title", param("title")))
+                                                        .first());
+    }
+
+    private List<String> titles(PreparedQuery<Book> query, Map<String, ?> values) {
+        return query.bind(values).iterator().toList().stream()
+                    .map(book -> book.title)
+                    .sorted()
+                    .collect(toList());
+    }
+}
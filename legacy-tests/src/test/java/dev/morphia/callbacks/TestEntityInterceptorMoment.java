@@ -23,6 +23,21 @@ public class TestEntityInterceptorMoment extends TestBase {
         getDs().save(new E());
     }
 
+    @Test
+    public void testInterceptorWithoutDocument() {
+        getMapper().map(E.class, Other.class);
+        StreamingInterceptor interceptor = new StreamingInterceptor();
+        getMapper().addInterceptor(interceptor);
+
+        E entity = new E();
+        getDs().save(entity);
+        getDs().save(new Other());
+
+        Assert.assertEquals(1, interceptor.calls);
+        Assert.assertTrue(entity.called);
+        Assert.assertNotNull(getDs().find(E.class).first());
+    }
+
     @Entity
     static class E {
         @Id
@@ -36,6 +51,32 @@ public class TestEntityInterceptorMoment extends TestBase {
         }
     }
 
+    @Entity
+    static class Other {
+        @Id
+        private final ObjectId id = new ObjectId();
+    }
+
+    public static class StreamingInterceptor implements EntityInterceptor {
+        private int calls;
+
+        @Override
+        public boolean appliesTo(Class<?> type) {
+            return type == E.class;
+        }
+
+        @Override
+        public boolean requiresDocument() {
+            return false;
+        }
+
+        @Override
+        public void prePersist(Object ent, Document document, Mapper mapper) {
+            Assert.assertNull(document);
+            calls++;
+        }
+    }
+
     public static class Interceptor implements EntityInterceptor {
         @Override
         public void prePersist(Object ent, Document document, Mapper mapper) {
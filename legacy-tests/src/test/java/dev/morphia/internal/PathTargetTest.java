@@ -128,6 +128,25 @@ public class PathTargetTest extends TestBase {
         Assert.assertEquals(mapper.getEntityModel(EmbeddedSubtype.class).getField("flag"), pathTarget.getTarget());
     }
 
+    @Test
+    public void cachedResolution() {
+        getMapper().map(ParentType.class, EmbeddedType.class);
+        Mapper mapper = getMapper();
+        EntityModel entityModel = mapper.getEntityModel(ParentType.class);
+
+        assertEquals("n", new PathTarget(mapper, entityModel, "name").translatedPath());
+        assertEquals("n", new PathTarget(mapper, entityModel, "name").translatedPath());
+        Assert.assertTrue(entityModel.getResolvedPaths(true).containsKey("name"));
+        Assert.assertFalse(entityModel.getResolvedPaths(false).containsKey("name"));
+
+        Assert.assertNull(new PathTarget(mapper, entityModel, "embedded.flag", false).getTarget());
+
+        getMapper().map(EmbeddedSubtype.class);
+        Assert.assertTrue(entityModel.getResolvedPaths(true).isEmpty());
+        Assert.assertEquals(mapper.getEntityModel(EmbeddedSubtype.class).getField("flag"),
+            new PathTarget(mapper, entityModel, "embedded.flag", false).getTarget());
+    }
+
     @Test
     public void disableValidation() {
         getMapper().map(WithNested.class, Nested.class, NestedImpl.class, AnotherNested.class);
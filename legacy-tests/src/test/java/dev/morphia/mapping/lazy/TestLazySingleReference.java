@@ -80,6 +80,37 @@ public class TestLazySingleReference extends ProxyTestBase {
 
     }
 
+    @Test
+    public final void testProxyClassIsShared() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+
+        RootEntity root = new RootEntity();
+        final ReferencedEntity reference = new ReferencedEntity();
+        final ReferencedEntity second = new ReferencedEntity();
+
+        root.r = reference;
+        root.secondReference = second;
+
+        getDs().save(second);
+        getDs().save(reference);
+        getDs().save(root);
+
+        RootEntity loaded = getDs().find(RootEntity.class)
+                                   .filter(eq("_id", root.getId()))
+                                   .first();
+        assertIsProxy(loaded.r);
+        assertIsProxy(loaded.secondReference);
+        Assert.assertNotSame(loaded.r, loaded.secondReference);
+        Assert.assertSame(loaded.r.getClass(), loaded.secondReference.getClass());
+
+        RootEntity reloaded = getDs().find(RootEntity.class)
+                                     .filter(eq("_id", root.getId()))
+                                     .first();
+        Assert.assertSame(loaded.r.getClass(), reloaded.r.getClass());
+        assertNotFetched(reloaded.r);
+        Assert.assertEquals(reference.getId(), reloaded.r.getId());
+    }
+
     @Test
     @Ignore("entity caching needs to be implemented")
     public final void testSameProxy() {